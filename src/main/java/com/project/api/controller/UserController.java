@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
  * Endpoints:
  * - POST   /api/users          - Create user
  * - GET    /api/users/{id}     - Get user by ID
+ * - GET    /api/users/batch    - Get users by IDs
  * - GET    /api/users          - List active users
  * - GET    /api/users/search   - Search users
  * - PUT    /api/users/{id}     - Update user
@@ -80,6 +81,23 @@ public class UserController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get users by IDs",
+            description = "Retrieves up to " + UserService.MAX_BATCH_SIZE + " users by ID; unknown IDs are omitted")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found users, in request order"),
+            @ApiResponse(responseCode = "400", description = "Too many IDs"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid API key")
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<List<UserResponse>> getUsersByIds(
+            @Parameter(description = "Comma-separated user IDs", required = true) @RequestParam List<Long> ids) {
+        List<UserResponse> users = userService.getUsersByIds(ids).values().stream()
+                .map(UserResponse::from)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(users);
+    }
+
     @Operation(summary = "List active users", description = "Retrieves all active users in the system")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of active users"),
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.infrastructure.cache.CacheValueSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +14,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -20,18 +23,34 @@ import java.time.Duration;
 
 /**
  * Redis configuration for caching and distributed state.
- * Configures RedisTemplate with JSON serialization for scalability.
+ * Configures RedisTemplate and RedisCacheManager with a compact binary codec
+ * (see {@link CacheValueSerializer}).
  */
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
     /**
-     * RedisTemplate with String keys and JSON values.
+     * Codec for cached values.
+     * SMILE (binary, versioned) by default; JSON writes the legacy format.
+     * Both formats are always readable. Large values are LZ4-compressed.
+     */
+    @Bean
+    public CacheValueSerializer cacheValueSerializer(
+            MeterRegistry meterRegistry,
+            @Value("${cache.codec.format:SMILE}") CacheValueSerializer.Format format,
+            @Value("${cache.codec.compression-threshold:2048}") int compressionThreshold) {
+        return new CacheValueSerializer(format, objectMapper(), compressionThreshold, meterRegistry);
+    }
+
+    /**
+     * RedisTemplate with String keys and codec-encoded values.
      * Used for manual cache operations (cache-aside pattern).
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(
+            RedisConnectionFactory connectionFactory,
+            CacheValueSerializer cacheValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -40,10 +59,9 @@ public class RedisConfig {
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
 
-        // JSON serializer for values
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper());
-        template.setValueSerializer(jsonSerializer);
-        template.setHashValueSerializer(jsonSerializer);
+        // Codec for values
+        template.setValueSerializer(cacheValueSerializer);
+        template.setHashValueSerializer(cacheValueSerializer);
 
         template.afterPropertiesSet();
         return template;
@@ -72,6 +90,17 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Listener container for Redis pub/sub.
+     * Used to broadcast local cache invalidations across nodes.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     /**
      * ObjectMapper for JSON serialization with type information.
      * Enables polymorphic deserialization for domain models.
@@ -100,16 +129,16 @@ public class RedisConfig {
      * Default TTL: 10 minutes.
      */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheValueSerializer cacheValueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(10))
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
             )
             .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(
-                    new GenericJackson2JsonRedisSerializer(objectMapper())
-                )
+                RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer)
             )
             .disableCachingNullValues();
 
@@ -0,0 +1,52 @@
+package com.project.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Scheduling configuration to enable background jobs.
+ * This allows @Scheduled methods (e.g. write-behind flushes) to run.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Executor for background cache refreshes (refresh-ahead).
+     * Small and bounded: when saturated, submissions are rejected and the
+     * entry simply falls back to a regular cache miss on expiry.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Executor for decoding AsyncCacheService replies, keeping deserialization
+     * off the Lettuce I/O threads. Sized to the CPU count (decoding is CPU-bound);
+     * when saturated the decode runs on the submitting thread.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.async.enabled", havingValue = "true")
+    public ThreadPoolTaskExecutor cacheCodecExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10000);
+        executor.setThreadNamePrefix("cache-codec-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
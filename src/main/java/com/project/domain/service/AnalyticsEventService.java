@@ -11,6 +11,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Service for processing analytics events.
@@ -50,7 +51,7 @@ public class AnalyticsEventService {
 
     /**
      * Get analytics summary for a specific date.
-     * Reads aggregated counts from Redis.
+     * Reads all aggregated counts from Redis in one round trip (MGET).
      *
      * @param date Date to get summary for (null = today)
      * @return Analytics summary with event counts
@@ -60,29 +61,21 @@ public class AnalyticsEventService {
             date = LocalDate.now();
         }
 
-        Map<String, Long> eventCounts = new HashMap<>();
+        LocalDate summaryDate = date;
+        List<String> keys = EVENT_TYPES.stream()
+                .map(eventType -> buildRedisKey(eventType, summaryDate))
+                .collect(Collectors.toList());
+        List<Long> counts = redisTemplate.opsForValue().multiGet(keys);
 
-        for (String eventType : EVENT_TYPES) {
-            Long count = getEventCount(eventType, date);
-            eventCounts.put(eventType, count);
+        Map<String, Long> eventCounts = new HashMap<>();
+        for (int i = 0; i < EVENT_TYPES.size(); i++) {
+            Long count = counts != null ? counts.get(i) : null;
+            eventCounts.put(EVENT_TYPES.get(i), count != null ? count : 0L);
         }
 
         return new AnalyticsSummaryResponse(date.toString(), eventCounts);
     }
 
-    /**
-     * Get event count for a specific type and date from Redis.
-     *
-     * @param eventType Event type
-     * @param date      Date
-     * @return Event count (0 if not found)
-     */
-    private Long getEventCount(String eventType, LocalDate date) {
-        String key = buildRedisKey(eventType, date);
-        Long count = redisTemplate.opsForValue().get(key);
-        return count != null ? count : 0L;
-    }
-
     /**
      * Build Redis key for analytics aggregation.
      * Format: analytics:events:{eventType}:{date}
@@ -1,6 +1,7 @@
 package com.project.domain.service;
 
 import com.project.domain.model.Order;
+import com.project.infrastructure.cache.ListCacheService;
 import com.project.infrastructure.persistence.entity.OrderEntity;
 import com.project.infrastructure.persistence.mapper.OrderMapper;
 import com.project.infrastructure.persistence.repository.OrderRepository;
@@ -24,6 +25,9 @@ import java.util.stream.Collectors;
 /**
  * Service layer for Order domain operations.
  * Orchestrates order processing with RabbitMQ tasks and Kafka events.
+ *
+ * Recent orders are cached in {@link ListCacheService} (order namespace);
+ * order writes retire them after commit via JPA entity events.
  */
 @Service
 @Transactional
@@ -35,16 +39,19 @@ public class OrderService {
     private final OrderMapper orderMapper;
     private final RabbitMQProducer rabbitMQProducer;
     private final KafkaProducer kafkaProducer;
+    private final ListCacheService listCacheService;
 
     public OrderService(
             OrderRepository orderRepository,
             OrderMapper orderMapper,
             RabbitMQProducer rabbitMQProducer,
-            KafkaProducer kafkaProducer) {
+            KafkaProducer kafkaProducer,
+            ListCacheService listCacheService) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
         this.rabbitMQProducer = rabbitMQProducer;
         this.kafkaProducer = kafkaProducer;
+        this.listCacheService = listCacheService;
     }
 
     /**
@@ -122,16 +129,19 @@ public class OrderService {
     }
 
     /**
-     * Get recent orders (last 7 days).
+     * Get recent orders (last 7 days, cached).
+     * A cached result may still include orders that aged past 7 days within the list cache TTL.
      */
     @Transactional(readOnly = true)
     public List<Order> getRecentOrders() {
-        LocalDateTime since = LocalDateTime.now().minusDays(7);
-        log.debug("Fetching recent orders since: {}", since);
-
-        return orderRepository.findRecentOrders(since).stream()
-                .map(orderMapper::toDomain)
-                .collect(Collectors.toList());
+        return listCacheService.getList(ListCacheService.ORDER_NAMESPACE, "recent", () -> {
+            LocalDateTime since = LocalDateTime.now().minusDays(7);
+            log.debug("Fetching recent orders since: {}", since);
+
+            return orderRepository.findRecentOrders(since).stream()
+                    .map(orderMapper::toDomain)
+                    .collect(Collectors.toList());
+        });
     }
 
     /**
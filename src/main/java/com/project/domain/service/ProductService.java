@@ -1,6 +1,8 @@
 package com.project.domain.service;
 
 import com.project.domain.model.Product;
+import com.project.infrastructure.cache.ListCacheService;
+import com.project.infrastructure.cache.ProductCacheService;
 import com.project.infrastructure.persistence.entity.ProductEntity;
 import com.project.infrastructure.persistence.mapper.ProductMapper;
 import com.project.infrastructure.persistence.repository.ProductRepository;
@@ -10,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -19,6 +22,10 @@ import java.util.stream.Collectors;
 /**
  * Service layer for Product domain operations.
  * Includes inventory management with event publishing.
+ *
+ * Single-product reads (by ID or SKU) go through {@link ProductCacheService},
+ * list and page reads through {@link ListCacheService} (product namespace);
+ * writes invalidate both after commit via JPA entity events.
  */
 @Service
 @Transactional
@@ -29,14 +36,20 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
     private final KafkaProducer kafkaProducer;
+    private final ProductCacheService productCacheService;
+    private final ListCacheService listCacheService;
 
     public ProductService(
             ProductRepository productRepository,
             ProductMapper productMapper,
-            KafkaProducer kafkaProducer) {
+            KafkaProducer kafkaProducer,
+            ProductCacheService productCacheService,
+            ListCacheService listCacheService) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
         this.kafkaProducer = kafkaProducer;
+        this.productCacheService = productCacheService;
+        this.listCacheService = listCacheService;
     }
 
     /**
@@ -59,48 +72,49 @@ public class ProductService {
     }
 
     /**
-     * Get product by ID.
+     * Get product by ID (cached).
+     * No transaction of its own: cache hits must not hold a database connection.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Product> getProductById(Long id) {
         log.debug("Fetching product by id: {}", id);
 
-        return productRepository.findById(id)
-                .map(productMapper::toDomain);
+        return productCacheService.findById(id);
     }
 
     /**
-     * Get product by SKU.
+     * Get product by SKU (cached).
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<Product> getProductBySku(String sku) {
         log.debug("Fetching product by sku: {}", sku);
 
-        return productRepository.findBySku(sku)
-                .map(productMapper::toDomain);
+        return productCacheService.findBySku(sku);
     }
 
     /**
-     * Get all active products.
+     * Get all active products (cached).
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Product> getActiveProducts() {
         log.debug("Fetching all active products");
 
-        return productRepository.findActiveProducts().stream()
-                .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+        return listCacheService.getList(ListCacheService.PRODUCT_NAMESPACE, "active",
+                () -> productRepository.findActiveProducts().stream()
+                        .map(productMapper::toDomain)
+                        .collect(Collectors.toList()));
     }
 
     /**
-     * Get products by category (paginated).
+     * Get products by category (paginated, cached).
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<Product> getProductsByCategory(String category, Pageable pageable) {
         log.debug("Fetching products by category: {}", category);
 
-        return productRepository.findByCategory(category, pageable)
-                .map(productMapper::toDomain);
+        return listCacheService.getPage(ListCacheService.PRODUCT_NAMESPACE, "category:" + category, pageable,
+                () -> productRepository.findByCategory(category, pageable)
+                        .map(productMapper::toDomain));
     }
 
     /**
@@ -118,13 +132,14 @@ public class ProductService {
     /**
      * Get low stock products.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Product> getLowStockProducts(Integer threshold) {
         log.debug("Fetching low stock products: threshold={}", threshold);
 
-        return productRepository.findLowStockProducts(threshold).stream()
-                .map(productMapper::toDomain)
-                .collect(Collectors.toList());
+        return listCacheService.getList(ListCacheService.PRODUCT_NAMESPACE, "low-stock:" + threshold,
+                () -> productRepository.findLowStockProducts(threshold).stream()
+                        .map(productMapper::toDomain)
+                        .collect(Collectors.toList()));
     }
 
     /**
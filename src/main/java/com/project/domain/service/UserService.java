@@ -1,21 +1,28 @@
 package com.project.domain.service;
 
 import com.project.domain.model.User;
+import com.project.infrastructure.cache.UserCacheService;
 import com.project.infrastructure.persistence.entity.UserEntity;
 import com.project.infrastructure.persistence.mapper.UserMapper;
 import com.project.infrastructure.persistence.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Service layer for User domain operations.
  * Orchestrates between controllers, repositories, and messaging.
+ *
+ * Lookups by ID and email go through {@link UserCacheService};
+ * writes invalidate it after commit via JPA entity events.
  */
 @Service
 @Transactional
@@ -23,12 +30,17 @@ public class UserService {
 
     private static final Logger log = LoggerFactory.getLogger(UserService.class);
 
+    /** Max IDs per batch lookup (one MGET and one IN query). */
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserCacheService userCacheService;
 
-    public UserService(UserRepository userRepository, UserMapper userMapper) {
+    public UserService(UserRepository userRepository, UserMapper userMapper, UserCacheService userCacheService) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.userCacheService = userCacheService;
     }
 
     /**
@@ -37,8 +49,9 @@ public class UserService {
     public User createUser(User user) {
         log.info("Creating user: email={}", user.getEmail());
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(user.getEmail())) {
+        // Check if email already exists (a cached user answers without a query)
+        if (userCacheService.findCachedByEmail(user.getEmail()).isPresent()
+                || userRepository.existsByEmail(user.getEmail())) {
             throw new IllegalArgumentException("User with email already exists: " + user.getEmail());
         }
 
@@ -51,25 +64,40 @@ public class UserService {
     }
 
     /**
-     * Get user by ID.
+     * Get user by ID (cached).
+     * No transaction of its own: cache hits must not hold a database connection.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<User> getUserById(Long id) {
         log.debug("Fetching user by id: {}", id);
 
-        return userRepository.findById(id)
-                .map(userMapper::toDomain);
+        return userCacheService.findById(id);
     }
 
     /**
-     * Get user by email.
+     * Get user by email (cached).
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<User> getUserByEmail(String email) {
         log.debug("Fetching user by email: {}", email);
 
-        return userRepository.findByEmail(email)
-                .map(userMapper::toDomain);
+        return userCacheService.findByEmail(email);
+    }
+
+    /**
+     * Get many users by ID (cached; one Redis round trip and at most one query).
+     *
+     * @return Found users by ID, in request order
+     * @throws IllegalArgumentException if more than {@link #MAX_BATCH_SIZE} IDs are requested
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<Long, User> getUsersByIds(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " user IDs per request");
+        }
+        log.debug("Fetching {} users by id", ids.size());
+
+        return userCacheService.findAllById(ids);
     }
 
     /**
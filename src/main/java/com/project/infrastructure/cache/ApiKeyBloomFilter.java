@@ -0,0 +1,189 @@
+package com.project.infrastructure.cache;
+
+import com.project.infrastructure.persistence.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bloom filter of all known API key hashes.
+ * Lets authentication skip Redis for keys that are almost certainly unknown.
+ *
+ * Lifecycle:
+ * - Built from api_keys on application startup, rebuilt periodically
+ *   (drops deleted keys, resizes for growth); pages by id, so deletes during
+ *   a rebuild cannot shift live keys out of it
+ * - Keys are added when invalidated (see {@link ApiKeyCacheService}) or found
+ *   in the database despite an "absent" answer
+ * - Until the first build completes, every key is reported as "maybe present"
+ *
+ * "Absent" is advisory: keys can be inserted without the application seeing
+ * them (e.g. SQL seeds), so callers still confirm it against the database.
+ *
+ * Metrics:
+ * - apikey.bloom.rejections: keys the filter reported as absent
+ * - apikey.bloom.false_positives: unknown keys the filter let through
+ * - apikey.bloom.false_negatives: keys reported absent but found in the database
+ * - apikey.bloom.false_positive_rate: observed false positives / unknown lookups
+ * - apikey.bloom.size.bits, apikey.bloom.expected_fpp: filter size and estimated FPP
+ */
+@Component
+public class ApiKeyBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyBloomFilter.class);
+    private static final int PAGE_SIZE = 5000;
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final long minCapacity;
+    private final double falsePositiveRate;
+
+    private final Counter rejections;
+    private final Counter falsePositives;
+    private final Counter falseNegatives;
+
+    private final AtomicReference<BloomFilter> current = new AtomicReference<>();
+    private volatile BloomFilter building;
+
+    public ApiKeyBloomFilter(
+            ApiKeyRepository apiKeyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${cache.api-key.bloom.min-capacity:100000}") long minCapacity,
+            @Value("${cache.api-key.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+
+        Counter rejected = Counter.builder("apikey.bloom.rejections")
+                .description("API keys reported absent by the Bloom filter")
+                .register(meterRegistry);
+        Counter passed = Counter.builder("apikey.bloom.false_positives")
+                .description("Unknown API keys that passed the Bloom filter")
+                .register(meterRegistry);
+        this.rejections = rejected;
+        this.falsePositives = passed;
+        this.falseNegatives = Counter.builder("apikey.bloom.false_negatives")
+                .description("API keys reported absent by the Bloom filter but found in the database")
+                .register(meterRegistry);
+
+        Gauge.builder("apikey.bloom.false_positive_rate", passed, p -> observedRate(p.count(), rejected.count()))
+                .description("Observed false-positive rate for unknown API keys")
+                .register(meterRegistry);
+
+        Gauge.builder("apikey.bloom.size.bits", current, f -> f.get() != null ? f.get().getBitSize() : 0)
+                .description("Bloom filter size in bits")
+                .register(meterRegistry);
+
+        Gauge.builder("apikey.bloom.expected_fpp", current,
+                        f -> f.get() != null ? f.get().getEstimatedFalsePositiveRate() : 0)
+                .description("Estimated false-positive probability from fill ratio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check if key hash may exist.
+     *
+     * @return false if the key hash was not known when the filter was built
+     *         (confirm against the database before rejecting)
+     */
+    public boolean mightContain(String keyHash) {
+        BloomFilter filter = current.get();
+        if (filter == null || filter.mightContain(keyHash)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    /**
+     * Add key hash to the filter (new key created).
+     */
+    public void put(String keyHash) {
+        BloomFilter filter = current.get();
+        if (filter != null) {
+            filter.put(keyHash);
+        }
+        // Keep a concurrent rebuild from missing keys created while it runs
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(keyHash);
+        }
+    }
+
+    /**
+     * Record that a key passed the filter but does not exist.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Record that a key reported absent exists (inserted since the last build),
+     * and add it so later lookups pass.
+     */
+    public void recordFalseNegative(String keyHash) {
+        falseNegatives.increment();
+        put(keyHash);
+    }
+
+    /**
+     * Build the filter from the database on startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the filter periodically to drop deleted keys and resize.
+     */
+    @Scheduled(
+        initialDelayString = "${cache.api-key.bloom.rebuild-interval-ms:3600000}",
+        fixedDelayString = "${cache.api-key.bloom.rebuild-interval-ms:3600000}"
+    )
+    public synchronized void rebuild() {
+        try {
+            long keyCount = apiKeyRepository.count();
+            BloomFilter fresh = new BloomFilter(Math.max(minCapacity, keyCount * 2), falsePositiveRate);
+            building = fresh;
+
+            // Keyset pagination: a delete during the rebuild cannot shift later rows
+            PageRequest firstPage = PageRequest.of(0, PAGE_SIZE);
+            long loaded = 0;
+            long lastId = 0L;
+            List<Object[]> batch;
+            do {
+                batch = apiKeyRepository.findKeyHashesAfter(lastId, firstPage);
+                for (Object[] row : batch) {
+                    fresh.put((String) row[1]);
+                }
+                loaded += batch.size();
+                if (!batch.isEmpty()) {
+                    lastId = (Long) batch.get(batch.size() - 1)[0];
+                }
+            } while (batch.size() == PAGE_SIZE);
+
+            current.set(fresh);
+            log.info("Built API key Bloom filter: {} keys, {} bits", loaded, fresh.getBitSize());
+        } catch (Exception e) {
+            log.error("Failed to build API key Bloom filter: {}", e.getMessage(), e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private static double observedRate(double passed, double rejected) {
+        double total = passed + rejected;
+        return total == 0 ? 0.0 : passed / total;
+    }
+}
@@ -1,26 +1,48 @@
 package com.project.infrastructure.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.project.domain.model.ApiKey;
 import com.project.infrastructure.persistence.entity.ApiKeyEntity;
+import com.project.infrastructure.persistence.listener.ApiKeyChangedEvent;
 import com.project.infrastructure.persistence.mapper.ApiKeyMapper;
 import com.project.infrastructure.persistence.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Cache service for API keys with cache-aside pattern.
  * Provides high-performance API key lookups for authentication.
  *
  * Cache Strategy:
- * - TTL: 15 minutes (balance between freshness and hit rate)
+ * - L1: In-process Caffeine cache (size-bounded, W-TinyLFU admission, short TTL)
+ * - L2: Redis, TTL 15 minutes (balance between freshness and hit rate)
  * - Pattern: Cache-aside (lazy loading)
- * - Invalidation: On update/delete operations
+ * - Invalidation: On update/delete operations, broadcast to every node's L1 via pub/sub
+ * - Unknown keys: Confirmed once against the database, then rejected by a
+ *   short-TTL negative cache. Keys the Bloom filter reports absent skip Redis,
+ *   but the filter is never the final word (keys may be inserted by SQL)
+ * - Refresh-ahead: A key read within the refresh window before its Redis TTL
+ *   ends is reloaded in the background, so hot keys never expire under load
+ * - Writes: Through {@link AsyncCacheService} when enabled, so a miss does not
+ *   wait for the Redis SET
  * - Target hit rate: >90%
  */
 @Service
@@ -28,58 +50,140 @@ public class ApiKeyCacheService {
 
     private static final Logger log = LoggerFactory.getLogger(ApiKeyCacheService.class);
     private static final Duration CACHE_TTL = Duration.ofMinutes(15);
+    private static final String INVALIDATION_TOPIC = "apikey";
 
     private final CacheService cacheService;
     private final ApiKeyRepository apiKeyRepository;
     private final ApiKeyMapper apiKeyMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final ApiKeyBloomFilter bloomFilter;
+    private final Executor refreshExecutor;
+    private final AsyncCacheService asyncCacheService;
+    private final long refreshAheadWindowMillis;
+    private final Cache<String, LocalEntry> localCache;
+    private final Cache<String, Boolean> negativeCache;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
 
     public ApiKeyCacheService(
             CacheService cacheService,
             ApiKeyRepository apiKeyRepository,
-            ApiKeyMapper apiKeyMapper) {
+            ApiKeyMapper apiKeyMapper,
+            CacheInvalidationBus invalidationBus,
+            ApiKeyBloomFilter bloomFilter,
+            MeterRegistry meterRegistry,
+            @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+            Optional<AsyncCacheService> asyncCacheService,
+            @Value("${cache.api-key.local.max-size:10000}") long localMaxSize,
+            @Value("${cache.api-key.local.ttl:60s}") Duration localTtl,
+            @Value("${cache.api-key.negative.max-size:100000}") long negativeMaxSize,
+            @Value("${cache.api-key.negative.ttl:30s}") Duration negativeTtl,
+            @Value("${cache.api-key.refresh-ahead.window:2m}") Duration refreshAheadWindow) {
         this.cacheService = cacheService;
         this.apiKeyRepository = apiKeyRepository;
         this.apiKeyMapper = apiKeyMapper;
+        this.invalidationBus = invalidationBus;
+        this.bloomFilter = bloomFilter;
+        this.refreshExecutor = refreshExecutor;
+        this.asyncCacheService = asyncCacheService.orElse(null);
+        this.refreshAheadWindowMillis = refreshAheadWindow.toMillis();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        this.negativeCache = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "apikey.local");
+        CaffeineCacheMetrics.monitor(meterRegistry, negativeCache, "apikey.negative");
+        invalidationBus.subscribe(INVALIDATION_TOPIC, this::evictLocal);
     }
 
     /**
      * Find API key by hash with cache-aside pattern.
      *
      * Flow:
-     * 1. Check cache
-     * 2. If cache hit, return cached value
-     * 3. If cache miss, query database
-     * 4. Store result in cache
-     * 5. Return value
+     * 1. Check local (L1) cache
+     * 2. Reject keys the negative cache knows are unknown
+     * 3. Check Redis (L2) cache, promote hit to L1
+     *    (hits close to Redis expiry trigger a background refresh);
+     *    skipped for keys the Bloom filter reports absent
+     * 4. If cache miss, query database once per key (concurrent misses wait on
+     *    the same load; misses are remembered in the negative cache). A Bloom
+     *    "absent" answer is confirmed here too, so a key inserted out-of-band
+     *    is rejected for at most the negative cache TTL
+     * 5. Store result in both tiers
+     * 6. Return value
      *
      * @param keyHash SHA-256 hash of API key
      * @return Optional containing ApiKey domain model
      */
     public Optional<ApiKey> findByKeyHash(String keyHash) {
+        // 1. Check in-process cache (no network, no deserialization)
+        LocalEntry local = localCache.getIfPresent(keyHash);
+        if (local != null) {
+            refreshIfExpiringSoon(keyHash, local);
+            return Optional.of(local.apiKey);
+        }
+
+        // 2. Reject recently confirmed unknown keys without network round trips
+        if (negativeCache.getIfPresent(keyHash) != null) {
+            return Optional.empty();
+        }
+
         String cacheKey = CacheKeyGenerator.apiKeyByHash(keyHash);
+        boolean mightExist = bloomFilter.mightContain(keyHash);
 
-        // 1. Check cache first (cache-aside pattern)
-        Optional<ApiKey> cached = cacheService.get(cacheKey, ApiKey.class);
+        // 3. Check Redis (cache-aside pattern), unless the key is almost certainly unknown
+        Optional<CacheEntry<ApiKey>> cached = mightExist
+                ? cacheService.getWithTtl(cacheKey, ApiKey.class)
+                : Optional.empty();
         if (cached.isPresent()) {
             log.debug("API key cache HIT for hash: {}", keyHash);
-            return cached;
+            LocalEntry entry = new LocalEntry(cached.get().getValue(), expiresAt(cached.get().getRemainingTtl()));
+            localCache.put(keyHash, entry);
+            refreshIfExpiringSoon(keyHash, entry);
+            return Optional.of(entry.apiKey);
         }
 
-        // 2. Cache miss - query database
+        // 4. Cache miss - query database (one loader per key, concurrent misses wait)
         log.debug("API key cache MISS for hash: {}", keyHash);
+        return cacheService.loadOnce(cacheKey, () -> loadFromDatabase(keyHash, cacheKey, mightExist));
+    }
+
+    /**
+     * Load API key from database and populate both cache tiers.
+     *
+     * @param mightExist Bloom filter answer for the key (checked against the result)
+     */
+    private Optional<ApiKey> loadFromDatabase(String keyHash, String cacheKey, boolean mightExist) {
         Optional<ApiKeyEntity> entity = apiKeyRepository.findByKeyHash(keyHash);
 
         if (entity.isEmpty()) {
             log.debug("API key not found in database: {}", keyHash);
+            negativeCache.put(keyHash, Boolean.TRUE);
+            if (mightExist) {
+                bloomFilter.recordFalsePositive();
+            }
             return Optional.empty();
         }
 
-        // 3. Convert to domain model
+        if (!mightExist) {
+            // Inserted since the last filter build without the application seeing it
+            log.debug("API key missing from Bloom filter: {}", keyHash);
+            bloomFilter.recordFalseNegative(keyHash);
+        }
+
+        // 5. Convert to domain model
         ApiKey apiKey = apiKeyMapper.toDomain(entity.get());
 
-        // 4. Store in cache only if active and not expired
+        // 6. Store in cache only if active and not expired
         if (shouldCache(apiKey)) {
-            cacheService.set(cacheKey, apiKey, CACHE_TTL);
+            store(keyHash, cacheKey, apiKey);
             log.debug("Cached API key: {} (TTL: {})", keyHash, CACHE_TTL);
         } else {
             log.debug("Skipped caching inactive/expired API key: {}", keyHash);
@@ -88,9 +192,74 @@ public class ApiKeyCacheService {
         return Optional.of(apiKey);
     }
 
+    /**
+     * Schedule a background reload if the Redis entry is about to expire.
+     * At most one refresh per key runs at a time on this node; the caller is
+     * always served the cached value immediately.
+     */
+    private void refreshIfExpiringSoon(String keyHash, LocalEntry entry) {
+        if (refreshAheadWindowMillis <= 0
+                || System.currentTimeMillis() < entry.expiresAtMillis - refreshAheadWindowMillis
+                || !refreshing.add(keyHash)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(keyHash);
+                } finally {
+                    refreshing.remove(keyHash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(keyHash);
+            log.debug("Refresh-ahead skipped for API key {}: executor saturated", keyHash);
+        }
+    }
+
+    /**
+     * Reload API key from database and reset its TTL in both tiers.
+     * Keys deleted, deactivated or expired since caching are invalidated instead.
+     */
+    private void refresh(String keyHash) {
+        try {
+            Optional<ApiKey> apiKey = apiKeyRepository.findByKeyHash(keyHash).map(apiKeyMapper::toDomain);
+            if (apiKey.isPresent() && shouldCache(apiKey.get())) {
+                store(keyHash, CacheKeyGenerator.apiKeyByHash(keyHash), apiKey.get());
+                log.debug("Refreshed API key ahead of expiry: {}", keyHash);
+            } else {
+                invalidate(keyHash);
+            }
+        } catch (Exception e) {
+            log.error("Refresh-ahead failed for API key {}: {}", keyHash, e.getMessage());
+        }
+    }
+
+    /**
+     * Write API key to Redis and the local cache with a full TTL.
+     * With AsyncCacheService enabled the request does not wait for the Redis write.
+     */
+    private void store(String keyHash, String cacheKey, ApiKey apiKey) {
+        if (asyncCacheService != null) {
+            asyncCacheService.setAsync(cacheKey, apiKey, CACHE_TTL);
+        } else {
+            cacheService.set(cacheKey, apiKey, CACHE_TTL);
+        }
+        localCache.put(keyHash, new LocalEntry(apiKey, expiresAt(CACHE_TTL)));
+    }
+
+    /**
+     * Absolute Redis expiry time for a remaining TTL (no expiry if null).
+     */
+    private static long expiresAt(Duration remainingTtl) {
+        return remainingTtl != null ? System.currentTimeMillis() + remainingTtl.toMillis() : Long.MAX_VALUE;
+    }
+
     /**
      * Invalidate cache for API key.
      * Called when API key is updated or deleted.
+     * Evicts Redis and the local cache of every node.
      *
      * @param keyHash SHA-256 hash of API key
      */
@@ -98,6 +267,9 @@ public class ApiKeyCacheService {
         String cacheKey = CacheKeyGenerator.apiKeyByHash(keyHash);
         boolean deleted = cacheService.delete(cacheKey);
 
+        evictLocal(keyHash);
+        invalidationBus.publish(INVALIDATION_TOPIC, keyHash);
+
         if (deleted) {
             log.info("Invalidated cache for API key: {}", keyHash);
         } else {
@@ -106,39 +278,42 @@ public class ApiKeyCacheService {
     }
 
     /**
-     * Update last used timestamp for API key.
-     * Updates database and invalidates cache.
+     * Bulk-warm Redis with already loaded API keys in one pipelined round trip.
+     * Only the shared Redis tier is populated; local caches fill on demand.
      *
-     * @param keyHash SHA-256 hash of API key
+     * @param apiKeys API keys to cache (inactive/expired keys are skipped)
+     * @return Number of keys written
      */
-    @Transactional
-    public void updateLastUsedAt(String keyHash) {
-        LocalDateTime now = LocalDateTime.now();
-
-        // Update database
-        apiKeyRepository.updateLastUsedAt(keyHash, now);
-
-        // Invalidate cache to force refresh on next lookup
-        invalidate(keyHash);
+    public int warmAll(Collection<ApiKey> apiKeys) {
+        Map<String, ApiKey> entries = new HashMap<>(apiKeys.size() * 2);
+        for (ApiKey apiKey : apiKeys) {
+            if (shouldCache(apiKey)) {
+                entries.put(CacheKeyGenerator.apiKeyByHash(apiKey.getKeyHash()), apiKey);
+            }
+        }
+        cacheService.multiSet(entries, CACHE_TTL);
+        return entries.size();
+    }
 
-        log.debug("Updated last_used_at for API key: {}", keyHash);
+    /**
+     * Invalidate cached key after a committed JPA change to the api_keys row.
+     * Runs after commit so a concurrent reader cannot re-cache the old row.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApiKeyChanged(ApiKeyChangedEvent event) {
+        log.debug("API key {}: {}", event.getChangeType(), event.getKeyHash());
+        invalidate(event.getKeyHash());
     }
 
     /**
-     * Warm cache with frequently used API keys.
-     * Can be called on application startup or scheduled.
-     *
-     * @param keyHashes List of API key hashes to warm
+     * Evict API key from this node's local caches only.
+     * An invalidated hash may now exist (e.g. a newly created key), so it is
+     * also added to the Bloom filter and dropped from the negative cache.
      */
-    public void warmCache(Iterable<String> keyHashes) {
-        int warmed = 0;
-        for (String keyHash : keyHashes) {
-            Optional<ApiKey> apiKey = findByKeyHash(keyHash);
-            if (apiKey.isPresent()) {
-                warmed++;
-            }
-        }
-        log.info("Warmed cache with {} API keys", warmed);
+    private void evictLocal(String keyHash) {
+        localCache.invalidate(keyHash);
+        negativeCache.invalidate(keyHash);
+        bloomFilter.put(keyHash);
     }
 
     /**
@@ -156,4 +331,17 @@ public class ApiKeyCacheService {
 
         return true;
     }
+
+    /**
+     * Local cache entry: API key plus the expiry time of its Redis copy.
+     */
+    private static final class LocalEntry {
+        private final ApiKey apiKey;
+        private final long expiresAtMillis;
+
+        private LocalEntry(ApiKey apiKey, long expiresAtMillis) {
+            this.apiKey = apiKey;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package com.project.infrastructure.cache;
+
+import com.project.infrastructure.persistence.repository.ApiKeyRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind tracker for API key last_used_at timestamps.
+ *
+ * Strategy:
+ * - Request path only records the timestamp in memory (no DB write, no cache eviction)
+ * - Repeated uses of the same key within a flush interval coalesce into one entry
+ * - A scheduled flush writes pending timestamps with batched UPDATE statements
+ *
+ * Timestamps are truncated to whole seconds, so a flush issues one UPDATE per
+ * distinct second (at most one per second of flush interval), regardless of
+ * how many keys or requests were seen. Pending entries are lost on a hard crash;
+ * last_used_at is informational, so this is an accepted trade-off.
+ */
+@Component
+public class ApiKeyUsageTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyUsageTracker.class);
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public ApiKeyUsageTracker(ApiKeyRepository apiKeyRepository) {
+        this.apiKeyRepository = apiKeyRepository;
+    }
+
+    /**
+     * Record that an API key was used now.
+     *
+     * @param keyHash SHA-256 hash of API key
+     */
+    public void recordUsage(String keyHash) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        pending.merge(keyHash, now, (current, latest) -> latest.isAfter(current) ? latest : current);
+    }
+
+    /**
+     * Number of keys waiting to be flushed.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Flush pending timestamps to the database.
+     * Runs on a fixed delay; failed batches are re-queued for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${cache.api-key.last-used.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Drain pending entries, grouped by timestamp
+        Map<LocalDateTime, List<String>> byTimestamp = new HashMap<>();
+        for (String keyHash : pending.keySet()) {
+            LocalDateTime timestamp = pending.remove(keyHash);
+            if (timestamp != null) {
+                byTimestamp.computeIfAbsent(timestamp, t -> new ArrayList<>()).add(keyHash);
+            }
+        }
+
+        int updated = 0;
+        for (Map.Entry<LocalDateTime, List<String>> entry : byTimestamp.entrySet()) {
+            List<String> keyHashes = entry.getValue();
+            for (int i = 0; i < keyHashes.size(); i += MAX_BATCH_SIZE) {
+                List<String> batch = keyHashes.subList(i, Math.min(i + MAX_BATCH_SIZE, keyHashes.size()));
+                try {
+                    updated += apiKeyRepository.updateLastUsedAtBatch(batch, entry.getKey());
+                } catch (Exception e) {
+                    log.error("Failed to flush last_used_at for {} API keys: {}", batch.size(), e.getMessage());
+                    requeue(batch, entry.getKey());
+                }
+            }
+        }
+
+        log.debug("Flushed last_used_at: {} timestamps, {} rows updated", byTimestamp.size(), updated);
+    }
+
+    /**
+     * Flush remaining timestamps on shutdown.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void requeue(List<String> keyHashes, LocalDateTime timestamp) {
+        for (String keyHash : keyHashes) {
+            pending.merge(keyHash, timestamp, (current, failed) -> current.isAfter(failed) ? current : failed);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.project.infrastructure.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.resource.ClientResources;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Non-blocking cache operations over one shared, multiplexed Lettuce connection.
+ * Request threads never wait for Redis: every call returns a CompletableFuture.
+ *
+ * Pipelining:
+ * - Commands from all threads are written to the same connection without
+ *   waiting for earlier replies (implicit pipelining)
+ * - Optional flush batching (cache.async.flush-batch-size > 0): writes are
+ *   buffered and flushed every N commands or every flush interval,
+ *   trading up to one interval of latency for fewer syscalls under load
+ *
+ * Values use the same codec as {@link CacheService}, so both APIs read each
+ * other's entries. Decoding runs on the cache codec executor, never on the
+ * Lettuce I/O thread. Like CacheService, failures (including codec failures)
+ * and an open circuit complete the future as a miss / no-op instead of
+ * exceptionally.
+ *
+ * Enabled by cache.async.enabled. The connection shares the ClientResources
+ * (event loops, timers) of the Spring Lettuce connection factory and is opened
+ * on first use.
+ */
+@Service
+@ConditionalOnProperty(name = "cache.async.enabled", havingValue = "true")
+public class AsyncCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncCacheService.class);
+    private static final RedisCodec<String, byte[]> CODEC = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+
+    private final CacheValueSerializer serializer;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final CacheMetrics metrics;
+    private final Executor codecExecutor;
+    private final int flushBatchSize;
+    private final ClientResources clientResources;
+    private final RedisURI redisUri;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile StatefulRedisConnection<String, byte[]> connection;
+    private RedisClient client;
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public AsyncCacheService(
+            LettuceConnectionFactory connectionFactory,
+            RedisProperties redisProperties,
+            CacheValueSerializer serializer,
+            RedisCircuitBreaker circuitBreaker,
+            CacheMetrics metrics,
+            @Qualifier("cacheCodecExecutor") Executor codecExecutor,
+            @Value("${cache.async.flush-batch-size:0}") int flushBatchSize,
+            @Value("${cache.async.flush-interval:200us}") Duration flushInterval) {
+        this(connectionFactory.getClientResources(), LettuceClients.redisUri(redisProperties), null,
+                serializer, circuitBreaker, metrics, codecExecutor, flushBatchSize, flushInterval);
+    }
+
+    AsyncCacheService(
+            ClientResources clientResources,
+            RedisURI redisUri,
+            StatefulRedisConnection<String, byte[]> connection,
+            CacheValueSerializer serializer,
+            RedisCircuitBreaker circuitBreaker,
+            CacheMetrics metrics,
+            Executor codecExecutor,
+            int flushBatchSize,
+            Duration flushInterval) {
+        this.clientResources = clientResources;
+        this.redisUri = redisUri;
+        this.connection = connection;
+        this.serializer = serializer;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
+        this.codecExecutor = codecExecutor;
+        this.flushBatchSize = flushBatchSize;
+
+        if (flushBatchSize > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "cache-async-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = flushInterval.toNanos();
+            flusher.scheduleAtFixedRate(this::flushPending, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Get value from cache by key.
+     *
+     * @return Future of the cached value, or empty if not found or on error
+     */
+    public <T> CompletableFuture<Optional<T>> getAsync(String key, Class<T> type) {
+        long start = System.nanoTime();
+        String keyspace = metrics.keyspace(key);
+        return dispatch(commands -> commands.get(key))
+                .thenApplyAsync(bytes -> {
+                    Object value = serializer.deserialize(bytes);
+                    if (value != null && type.isInstance(value)) {
+                        metrics.recordHit(keyspace);
+                        return Optional.of(type.cast(value));
+                    }
+                    metrics.recordMiss(keyspace);
+                    return Optional.<T>empty();
+                }, codecExecutor)
+                .exceptionally(e -> {
+                    logError("GET", key, e);
+                    return Optional.empty();
+                })
+                .whenComplete((result, e) -> metrics.recordLatency(keyspace, "GET_ASYNC", System.nanoTime() - start));
+    }
+
+    /**
+     * Set value in cache with TTL.
+     *
+     * @return Future completed when Redis acknowledged the write (or it failed)
+     */
+    public CompletableFuture<Void> setAsync(String key, Object value, Duration ttl) {
+        long start = System.nanoTime();
+        byte[] bytes;
+        try {
+            bytes = serializer.serialize(value);
+        } catch (Exception e) {
+            logError("SET", key, e);
+            return CompletableFuture.completedFuture(null);
+        }
+        return dispatch(commands -> commands.set(key, bytes, SetArgs.Builder.px(ttl.toMillis())))
+                .<Void>thenApply(reply -> null)
+                .exceptionally(e -> {
+                    logError("SET", key, e);
+                    return null;
+                })
+                .whenComplete((result, e) ->
+                        metrics.recordLatency(metrics.keyspace(key), "SET_ASYNC", System.nanoTime() - start));
+    }
+
+    /**
+     * Increment numeric value in cache (atomic operation).
+     *
+     * @return Future of the new value, or null on error
+     */
+    public CompletableFuture<Long> incrementAsync(String key) {
+        long start = System.nanoTime();
+        return dispatch(commands -> commands.incr(key))
+                .exceptionally(e -> {
+                    logError("INCREMENT", key, e);
+                    return null;
+                })
+                .whenComplete((result, e) ->
+                        metrics.recordLatency(metrics.keyspace(key), "INCREMENT_ASYNC", System.nanoTime() - start));
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        if (connection != null) {
+            connection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * Issue a command through the breaker, counting it towards the next flush.
+     */
+    private <T> CompletableFuture<T> dispatch(Function<RedisAsyncCommands<String, byte[]>, RedisFuture<T>> command) {
+        return circuitBreaker.executeAsync(() -> {
+            RedisFuture<T> future = command.apply(connection().async());
+            if (flushBatchSize > 0 && pending.incrementAndGet() >= flushBatchSize) {
+                flushPending();
+            }
+            return future;
+        });
+    }
+
+    private void flushPending() {
+        StatefulRedisConnection<String, byte[]> current = connection;
+        if (current != null && pending.getAndSet(0) > 0) {
+            current.flushCommands();
+        }
+    }
+
+    /**
+     * Shared connection, opened on first use so startup does not depend on Redis.
+     */
+    private StatefulRedisConnection<String, byte[]> connection() {
+        StatefulRedisConnection<String, byte[]> current = connection;
+        if (current == null) {
+            synchronized (this) {
+                current = connection;
+                if (current == null) {
+                    if (client == null) {
+                        // Shared resources are not shut down with this client
+                        client = clientResources != null
+                                ? RedisClient.create(clientResources, redisUri)
+                                : RedisClient.create(redisUri);
+                    }
+                    current = client.connect(CODEC);
+                    if (flushBatchSize > 0) {
+                        current.setAutoFlushCommands(false);
+                    }
+                    connection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private void logError(String operation, String key, Throwable e) {
+        if (RedisCircuitBreaker.isRejected(e)) {
+            log.debug("Async cache {} skipped for key {}: circuit open", operation, key);
+        } else {
+            log.error("Async cache {} error for key {}: {}", operation, key, e.getMessage());
+        }
+    }
+}
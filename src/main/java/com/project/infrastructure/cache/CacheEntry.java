@@ -0,0 +1,29 @@
+package com.project.infrastructure.cache;
+
+import java.time.Duration;
+
+/**
+ * Cached value together with its remaining time to live.
+ * Returned by lookups that need to know how close an entry is to expiry.
+ */
+public class CacheEntry<T> {
+
+    private final T value;
+    private final Duration remainingTtl;
+
+    public CacheEntry(T value, Duration remainingTtl) {
+        this.value = value;
+        this.remainingTtl = remainingTtl;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Remaining TTL, or null if the key has no expiry.
+     */
+    public Duration getRemainingTtl() {
+        return remainingTtl;
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations to every node over Redis pub/sub.
+ * Keeps in-process (L1) caches coherent across the cluster.
+ *
+ * Channel pattern: cache:events:{topic}
+ * Message body: the affected key (plain string)
+ *
+ * Delivery is best-effort (pub/sub is fire-and-forget), so local caches
+ * must still use a short TTL as a safety net.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final String CHANNEL_PREFIX = "cache:events:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public CacheInvalidationBus(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    /**
+     * Publish an event for a key to all nodes (including this one).
+     *
+     * @param topic Event topic (e.g. "apikey")
+     * @param key Affected key
+     */
+    public void publish(String topic, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + topic, key);
+            log.debug("Published cache event: topic={}, key={}", topic, key);
+        } catch (Exception e) {
+            log.error("Failed to publish cache event: topic={}, key={}, error={}", topic, key, e.getMessage());
+        }
+    }
+
+    /**
+     * Subscribe to events for a topic.
+     *
+     * @param topic Event topic (e.g. "apikey")
+     * @param handler Callback receiving the affected key
+     */
+    public void subscribe(String topic, Consumer<String> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String key = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                handler.accept(key);
+            } catch (Exception e) {
+                log.error("Failed to handle cache event: topic={}, key={}, error={}", topic, key, e.getMessage());
+            }
+        }, new ChannelTopic(CHANNEL_PREFIX + topic));
+    }
+}
@@ -3,6 +3,9 @@ package com.project.infrastructure.cache;
 /**
  * Centralized cache key generation for consistent naming.
  * Pattern: {prefix}:{identifier}
+ *
+ * Keys are built with plain concatenation (compiled to a single pre-sized
+ * allocation) rather than String.format, as they sit on the per-request path.
  */
 public class CacheKeyGenerator {
 
@@ -20,7 +23,7 @@ public class CacheKeyGenerator {
      * Example: "apikey:abc123hash"
      */
     public static String apiKeyByHash(String keyHash) {
-        return String.format("%s:%s", API_KEY_PREFIX, keyHash);
+        return API_KEY_PREFIX + ":" + keyHash;
     }
 
     /**
@@ -28,7 +31,7 @@ public class CacheKeyGenerator {
      * Example: "user:123"
      */
     public static String userById(Long userId) {
-        return String.format("%s:%d", USER_PREFIX, userId);
+        return USER_PREFIX + ":" + userId;
     }
 
     /**
@@ -36,15 +39,59 @@ public class CacheKeyGenerator {
      * Example: "user:email:test@example.com"
      */
     public static String userByEmail(String email) {
-        return String.format("%s:email:%s", USER_PREFIX, email);
+        return USER_PREFIX + ":email:" + email;
+    }
+
+    /**
+     * Generate cache key for product by ID.
+     * Example: "product:id:42"
+     */
+    public static String productById(Long productId) {
+        return PRODUCT_PREFIX + ":id:" + productId;
     }
 
     /**
      * Generate cache key for product by SKU.
-     * Example: "product:SKU-001"
+     * Own "sku" segment, so a SKU like "id:42" cannot collide with an ID key.
+     * Example: "product:sku:SKU-001"
      */
     public static String productBySku(String sku) {
-        return String.format("%s:%s", PRODUCT_PREFIX, sku);
+        return PRODUCT_PREFIX + ":sku:" + sku;
+    }
+
+    /**
+     * Generate key of a namespace version counter.
+     * Own prefix, so it cannot collide with entity keys (e.g. a product SKU).
+     * Example: "version:product"
+     *
+     * @param namespace Entity namespace (e.g. "product", "order")
+     */
+    public static String namespaceVersion(String namespace) {
+        return "version:" + namespace;
+    }
+
+    /**
+     * Generate cache key for a list/page query result under a namespace version.
+     * Own prefix, so it cannot collide with entity keys (e.g. a product SKU).
+     * Example: "list:product:1700000000042:category:books:p0:s20:UNSORTED"
+     *
+     * @param namespace Entity namespace (e.g. "product", "order")
+     * @param version Current namespace version
+     * @param query Query name and parameters
+     */
+    public static String listQuery(String namespace, long version, String query) {
+        return "list:" + namespace + ":" + version + ":" + query;
+    }
+
+    /**
+     * Generate cache key for rate limit state of an algorithm.
+     * Example: "ratelimit:gcra:abc123hash"
+     *
+     * @param algorithm Algorithm key segment (e.g. "fw", "sw", "gcra")
+     * @param keyHash API key hash
+     */
+    public static String rateLimit(String algorithm, String keyHash) {
+        return RATE_LIMIT_PREFIX + ":" + algorithm + ":" + keyHash;
     }
 
     /**
@@ -55,6 +102,6 @@ public class CacheKeyGenerator {
      * @param windowStart Unix timestamp of rate limit window start (seconds)
      */
     public static String rateLimitWindow(String keyHash, long windowStart) {
-        return String.format("%s:%s:%d", RATE_LIMIT_PREFIX, keyHash, windowStart);
+        return RATE_LIMIT_PREFIX + ":" + keyHash + ":" + windowStart;
     }
 }
@@ -3,69 +3,119 @@ package com.project.infrastructure.cache;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Cache metrics for monitoring cache performance.
- * Tracks hit rate, miss rate, and latency.
+ * Tracks hit rate, miss rate, and latency per keyspace.
+ *
+ * Keyspace: key prefix before the first ':' (e.g. "apikey:abc" -> apikey).
+ * Prefixes not in cache.metrics.keyspaces are reported as "other" to keep
+ * tag cardinality bounded.
+ *
+ * Metrics (all tagged cache=redis, keyspace):
+ * - cache.hits / cache.misses: lookups
+ * - cache.latency: operation latency with percentile histogram (tagged operation)
  */
 @Component
 public class CacheMetrics {
 
-    private final Counter cacheHits;
-    private final Counter cacheMisses;
-    private final Timer cacheLatency;
-
-    public CacheMetrics(MeterRegistry meterRegistry) {
-        this.cacheHits = Counter.builder("cache.hits")
-                .description("Number of cache hits")
-                .tag("cache", "redis")
-                .register(meterRegistry);
-
-        this.cacheMisses = Counter.builder("cache.misses")
-                .description("Number of cache misses")
-                .tag("cache", "redis")
-                .register(meterRegistry);
-
-        this.cacheLatency = Timer.builder("cache.latency")
-                .description("Cache operation latency")
-                .tag("cache", "redis")
-                .register(meterRegistry);
+    static final String OTHER_KEYSPACE = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> keyspaces;
+
+    private final Map<String, KeyspaceCounters> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public CacheMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${cache.metrics.keyspaces:apikey,ratelimit,product,user,order,analytics,list}") Set<String> keyspaces) {
+        this.meterRegistry = meterRegistry;
+        this.keyspaces = Set.copyOf(keyspaces);
+    }
+
+    /**
+     * Get keyspace of a cache key.
+     */
+    public String keyspace(String key) {
+        int separator = key.indexOf(':');
+        String prefix = separator < 0 ? key : key.substring(0, separator);
+        return keyspaces.contains(prefix) ? prefix : OTHER_KEYSPACE;
     }
 
     /**
      * Record cache hit.
      */
-    public void recordHit() {
-        cacheHits.increment();
+    public void recordHit(String keyspace) {
+        counters(keyspace).hits.increment();
     }
 
     /**
      * Record cache miss.
      */
-    public void recordMiss() {
-        cacheMisses.increment();
+    public void recordMiss(String keyspace) {
+        counters(keyspace).misses.increment();
     }
 
     /**
      * Record cache operation latency.
      *
+     * @param keyspace Keyspace of the key(s)
+     * @param operation Operation (e.g. GET, SET, MGET)
      * @param duration Duration in nanoseconds
      */
-    public void recordLatency(long duration) {
-        cacheLatency.record(duration, TimeUnit.NANOSECONDS);
+    public void recordLatency(String keyspace, String operation, long duration) {
+        timers.computeIfAbsent(keyspace + ':' + operation, k -> Timer.builder("cache.latency")
+                        .description("Cache operation latency")
+                        .tag("cache", "redis")
+                        .tag("keyspace", keyspace)
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(duration, TimeUnit.NANOSECONDS);
     }
 
     /**
-     * Get cache hit rate (0.0 to 1.0).
+     * Get cache hit rate across all keyspaces (0.0 to 1.0).
      *
      * @return Hit rate percentage
      */
     public double getHitRate() {
-        double hits = cacheHits.count();
-        double misses = cacheMisses.count();
+        double hits = 0;
+        double misses = 0;
+        for (KeyspaceCounters keyspaceCounters : counters.values()) {
+            hits += keyspaceCounters.hits.count();
+            misses += keyspaceCounters.misses.count();
+        }
+        return hitRate(hits, misses);
+    }
+
+    /**
+     * Get hits, misses and hit rate of every keyspace seen so far.
+     */
+    public Map<String, KeyspaceStats> getKeyspaceStats() {
+        Map<String, KeyspaceStats> stats = new TreeMap<>();
+        counters.forEach((keyspace, keyspaceCounters) -> {
+            long hits = (long) keyspaceCounters.hits.count();
+            long misses = (long) keyspaceCounters.misses.count();
+            stats.put(keyspace, new KeyspaceStats(hits, misses, hitRate(hits, misses)));
+        });
+        return stats;
+    }
+
+    private KeyspaceCounters counters(String keyspace) {
+        return counters.computeIfAbsent(keyspace, k -> new KeyspaceCounters(meterRegistry, k));
+    }
+
+    private static double hitRate(double hits, double misses) {
         double total = hits + misses;
 
         if (total == 0) {
@@ -74,4 +124,50 @@ public class CacheMetrics {
 
         return hits / total;
     }
+
+    private static final class KeyspaceCounters {
+        private final Counter hits;
+        private final Counter misses;
+
+        private KeyspaceCounters(MeterRegistry meterRegistry, String keyspace) {
+            this.hits = Counter.builder("cache.hits")
+                    .description("Number of cache hits")
+                    .tag("cache", "redis")
+                    .tag("keyspace", keyspace)
+                    .register(meterRegistry);
+
+            this.misses = Counter.builder("cache.misses")
+                    .description("Number of cache misses")
+                    .tag("cache", "redis")
+                    .tag("keyspace", keyspace)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Hit/miss statistics of one keyspace.
+     */
+    public static class KeyspaceStats {
+        private final long hits;
+        private final long misses;
+        private final double hitRate;
+
+        public KeyspaceStats(long hits, long misses, double hitRate) {
+            this.hits = hits;
+            this.misses = misses;
+            this.hitRate = hitRate;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public double getHitRate() {
+            return hitRate;
+        }
+    }
 }
@@ -2,16 +2,45 @@ package com.project.infrastructure.cache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Generic cache service with cache-aside pattern.
  * Provides reusable caching operations for all domain models.
+ *
+ * Reads and writes go through {@link RedisCircuitBreaker}: while Redis is
+ * slow or down they fail fast and behave like a cache miss / no-op.
+ * Deletes and expiry changes bypass the breaker so invalidations are
+ * always attempted.
+ *
+ * Multi-key operations (multiGet, multiSet, multiDelete) cost one round trip
+ * regardless of the number of keys (MGET, pipelining, multi-key DEL).
+ *
+ * Load-through: {@link #getOrLoad} refreshes hot keys before they expire
+ * (probabilistic early expiration), so callers do not all miss at once.
+ *
+ * Near cache: get / getWithTtl of keys covered by {@link NearCache} (opt-in,
+ * hot keyspaces) are answered in-process when possible; Redis pushes the
+ * invalidations that keep those copies coherent across nodes.
+ *
+ * Every operation records latency, and every lookup a hit or miss, per
+ * keyspace in {@link CacheMetrics}.
  */
 @Service
 public class CacheService {
@@ -19,9 +48,23 @@ public class CacheService {
     private static final Logger log = LoggerFactory.getLogger(CacheService.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final CacheMetrics metrics;
+    private final NearCache nearCache;
+    private final double earlyExpirationBeta;
+    private final SingleFlight singleFlight = new SingleFlight();
 
-    public CacheService(RedisTemplate<String, Object> redisTemplate) {
+    public CacheService(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            CacheMetrics metrics,
+            NearCache nearCache,
+            @Value("${cache.load.early-expiration-beta:1.0}") double earlyExpirationBeta) {
         this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
+        this.nearCache = nearCache;
+        this.earlyExpirationBeta = earlyExpirationBeta;
     }
 
     /**
@@ -32,17 +75,240 @@ public class CacheService {
      * @return Optional containing cached value, or empty if not found
      */
     public <T> Optional<T> get(String key, Class<T> type) {
+        long start = System.nanoTime();
+        boolean near = nearCache.covers(key);
+        if (near) {
+            NearCache.Entry entry = nearCache.get(key);
+            if (entry != null && type.isInstance(entry.getValue())) {
+                // Never serve past a known Redis expiry (the expiry push may lag)
+                Duration ttl = entry.hasKnownExpiry() ? entry.remainingTtl(System.currentTimeMillis()) : null;
+                if (ttl == null || !ttl.isZero()) {
+                    metrics.recordHit(metrics.keyspace(key));
+                    recordLatency(key, "GET_NEAR", start);
+                    return Optional.of(type.cast(entry.getValue()));
+                }
+            }
+        }
+        long stamp = nearCache.stamp();
         try {
-            Object value = redisTemplate.opsForValue().get(key);
+            Object value = circuitBreaker.execute(() -> redisTemplate.opsForValue().get(key));
             if (value != null && type.isInstance(value)) {
+                metrics.recordHit(metrics.keyspace(key));
                 log.debug("Cache HIT: {}", key);
+                if (near) {
+                    nearCache.put(key, value, NearCache.UNKNOWN_EXPIRY, stamp);
+                }
                 return Optional.of(type.cast(value));
             }
+            metrics.recordMiss(metrics.keyspace(key));
+            log.debug("Cache MISS: {}", key);
+            return Optional.empty();
+        } catch (Exception e) {
+            logError("GET", key, e);
+            return Optional.empty();
+        } finally {
+            recordLatency(key, "GET", start);
+        }
+    }
+
+    /**
+     * Get value and its remaining TTL in one pipelined round trip (GET + PTTL).
+     *
+     * @param key Cache key
+     * @param type Expected value type
+     * @return Optional containing value and remaining TTL, or empty if not found
+     */
+    public <T> Optional<CacheEntry<T>> getWithTtl(String key, Class<T> type) {
+        long start = System.nanoTime();
+        boolean near = nearCache.covers(key);
+        if (near) {
+            NearCache.Entry entry = nearCache.get(key);
+            if (entry != null && entry.hasKnownExpiry() && type.isInstance(entry.getValue())) {
+                Duration ttl = entry.remainingTtl(System.currentTimeMillis());
+                if (ttl == null || !ttl.isZero()) {
+                    metrics.recordHit(metrics.keyspace(key));
+                    recordLatency(key, "GET_TTL_NEAR", start);
+                    return Optional.of(new CacheEntry<>(type.cast(entry.getValue()), ttl));
+                }
+            }
+        }
+        long stamp = nearCache.stamp();
+        try {
+            List<Object> results = circuitBreaker.execute(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForValue().get(key);
+                    ops.getExpire(key, TimeUnit.MILLISECONDS);
+                    return null;
+                }
+            }));
+
+            Object value = results.get(0);
+            if (value != null && type.isInstance(value)) {
+                metrics.recordHit(metrics.keyspace(key));
+                log.debug("Cache HIT: {}", key);
+                Long ttlMillis = (Long) results.get(1);
+                Duration ttl = ttlMillis != null && ttlMillis >= 0 ? Duration.ofMillis(ttlMillis) : null;
+                if (near) {
+                    long expiresAt = ttlMillis == null ? NearCache.UNKNOWN_EXPIRY
+                            : ttl != null ? System.currentTimeMillis() + ttlMillis : NearCache.NO_EXPIRY;
+                    nearCache.put(key, value, expiresAt, stamp);
+                }
+                return Optional.of(new CacheEntry<>(type.cast(value), ttl));
+            }
+            metrics.recordMiss(metrics.keyspace(key));
             log.debug("Cache MISS: {}", key);
             return Optional.empty();
         } catch (Exception e) {
-            log.error("Cache GET error for key {}: {}", key, e.getMessage());
+            logError("GET", key, e);
             return Optional.empty();
+        } finally {
+            recordLatency(key, "GET_TTL", start);
+        }
+    }
+
+    /**
+     * Get many values in one round trip (MGET).
+     * Keys that are missing or hold a value of another type are left out of the result.
+     *
+     * @param keys Cache keys
+     * @param type Expected value type
+     * @return Cached values by key (hits only, in request order); empty on error
+     */
+    public <T> Map<String, T> multiGet(Collection<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keyList = new ArrayList<>(keys);
+        long start = System.nanoTime();
+        try {
+            List<Object> values = circuitBreaker.execute(() -> redisTemplate.opsForValue().multiGet(keyList));
+            Map<String, T> hits = new LinkedHashMap<>();
+            if (values != null) {
+                for (int i = 0; i < keyList.size(); i++) {
+                    Object value = values.get(i);
+                    String key = keyList.get(i);
+                    if (value != null && type.isInstance(value)) {
+                        hits.put(key, type.cast(value));
+                        metrics.recordHit(metrics.keyspace(key));
+                    } else {
+                        metrics.recordMiss(metrics.keyspace(key));
+                    }
+                }
+            }
+            log.debug("Cache MGET: {} keys, {} hits, {} misses",
+                keyList.size(), hits.size(), keyList.size() - hits.size());
+            return hits;
+        } catch (Exception e) {
+            if (RedisCircuitBreaker.isRejected(e)) {
+                log.debug("Cache MGET skipped for {} keys: circuit open", keyList.size());
+            } else {
+                log.error("Cache MGET error for {} keys: {}", keyList.size(), e.getMessage());
+            }
+            return Map.of();
+        } finally {
+            recordLatency(keyList.get(0), "MGET", start);
+        }
+    }
+
+    /**
+     * Load value on cache miss with per-key request coalescing.
+     * Concurrent misses for the same key run the loader once; other callers
+     * wait for and share its result. Use from cache-aside code after a miss.
+     *
+     * @param key Cache key
+     * @param loader Loader (e.g. database query + cache set)
+     * @return Loader result
+     */
+    public <T> T loadOnce(String key, Supplier<T> loader) {
+        return singleFlight.execute(key, loader);
+    }
+
+    /**
+     * Get value, loading and caching it on a miss, with probabilistic early
+     * recomputation (XFetch) of values close to expiry.
+     *
+     * Flow:
+     * 1. GET value, its compute time and remaining TTL (one round trip)
+     * 2. Hit: recompute early with probability rising as expiry nears, scaled by
+     *    compute time (-computeTime * beta * ln(rand) >= remaining TTL).
+     *    Only the node holding the key's refresh lock recomputes; everyone
+     *    else keeps serving the cached value.
+     * 3. Miss: load once per key on this node (request coalescing) and cache
+     *
+     * Values are stored wrapped in {@link ComputedValue}; read these keys
+     * only through getOrLoad. Null results are not cached.
+     *
+     * @param key Cache key
+     * @param type Expected value type
+     * @param ttl Time to live
+     * @param loader Loader (e.g. database query)
+     * @return Cached or freshly loaded value (null if the loader returned null)
+     */
+    public <T> T getOrLoad(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        Optional<CacheEntry<ComputedValue>> cached = getWithTtl(key, ComputedValue.class);
+
+        if (cached.isPresent() && type.isInstance(cached.get().getValue().getValue())) {
+            CacheEntry<ComputedValue> entry = cached.get();
+            T value = type.cast(entry.getValue().getValue());
+            Duration remaining = entry.getRemainingTtl();
+
+            if (remaining == null || !shouldRecomputeEarly(remaining.toMillis(), entry.getValue().getComputeMillis(),
+                    earlyExpirationBeta, ThreadLocalRandom.current().nextDouble())) {
+                return value;
+            }
+            if (!tryLockRefresh(key, ttl)) {
+                return value;
+            }
+            log.debug("Cache early recompute: {} ({} ms left)", key, remaining.toMillis());
+            try {
+                return loadOnce(key, () -> computeAndStore(key, ttl, loader));
+            } finally {
+                delete(key + ":lock");
+            }
+        }
+
+        return loadOnce(key, () -> computeAndStore(key, ttl, loader));
+    }
+
+    /**
+     * XFetch decision: recompute if now - computeTime * beta * ln(rand) is past expiry.
+     *
+     * @param remainingMillis Time until the value expires
+     * @param computeMillis Time the value took to compute
+     * @param beta Eagerness (1.0 = standard; higher refreshes earlier)
+     * @param random Uniform random number in [0, 1)
+     */
+    static boolean shouldRecomputeEarly(long remainingMillis, long computeMillis, double beta, double random) {
+        // 1 - random is in (0, 1], so the log is finite and <= 0
+        double gap = -computeMillis * beta * Math.log(1.0 - random);
+        return gap >= remainingMillis;
+    }
+
+    private <T> T computeAndStore(String key, Duration ttl, Supplier<T> loader) {
+        long start = System.nanoTime();
+        T value = loader.get();
+        long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (value != null) {
+            set(key, new ComputedValue(value, computeMillis), ttl);
+        }
+        return value;
+    }
+
+    /**
+     * Take the key's refresh lock (SET NX), so one node recomputes early.
+     * Expires on its own if the holder dies; treated as taken on Redis errors.
+     */
+    private boolean tryLockRefresh(String key, Duration ttl) {
+        try {
+            Boolean locked = circuitBreaker.execute(() -> redisTemplate.opsForValue()
+                    .setIfAbsent(key + ":lock", Boolean.TRUE, ttl));
+            return Boolean.TRUE.equals(locked);
+        } catch (Exception e) {
+            logError("LOCK", key, e);
+            return false;
         }
     }
 
@@ -54,11 +320,88 @@ public class CacheService {
      * @param ttl Time to live
      */
     public void set(String key, Object value, Duration ttl) {
+        long start = System.nanoTime();
         try {
-            redisTemplate.opsForValue().set(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS);
+            circuitBreaker.run(() -> redisTemplate.opsForValue().set(key, value, ttl.toMillis(), TimeUnit.MILLISECONDS));
+            nearCache.invalidate(key);
             log.debug("Cache SET: {} (TTL: {})", key, ttl);
         } catch (Exception e) {
-            log.error("Cache SET error for key {}: {}", key, e.getMessage());
+            logError("SET", key, e);
+        } finally {
+            recordLatency(key, "SET", start);
+        }
+    }
+
+    /**
+     * Set many values with the same TTL in one pipelined round trip.
+     *
+     * @param entries Cache keys and values
+     * @param ttl Time to live
+     */
+    public void multiSet(Map<String, ?> entries, Duration ttl) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            circuitBreaker.run(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    entries.forEach((key, value) -> ops.opsForValue().set(key, value, ttl));
+                    return null;
+                }
+            }));
+            entries.keySet().forEach(nearCache::invalidate);
+            log.debug("Cache MSET: {} keys (TTL: {})", entries.size(), ttl);
+        } catch (Exception e) {
+            if (RedisCircuitBreaker.isRejected(e)) {
+                log.debug("Cache MSET skipped for {} keys: circuit open", entries.size());
+            } else {
+                log.error("Cache MSET error for {} keys: {}", entries.size(), e.getMessage());
+            }
+        } finally {
+            recordLatency(entries.keySet().iterator().next(), "MSET", start);
+        }
+    }
+
+    /**
+     * Set many values, each with its own TTL, in one pipelined round trip.
+     *
+     * @param entries Cache keys and entries (value + TTL; null TTL means no expiry)
+     */
+    public void multiSet(Map<String, ? extends CacheEntry<?>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            circuitBreaker.run(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    entries.forEach((key, entry) -> {
+                        if (entry.getRemainingTtl() != null) {
+                            ops.opsForValue().set(key, entry.getValue(), entry.getRemainingTtl());
+                        } else {
+                            ops.opsForValue().set(key, entry.getValue());
+                        }
+                    });
+                    return null;
+                }
+            }));
+            entries.keySet().forEach(nearCache::invalidate);
+            log.debug("Cache MSET: {} keys (per-entry TTL)", entries.size());
+        } catch (Exception e) {
+            if (RedisCircuitBreaker.isRejected(e)) {
+                log.debug("Cache MSET skipped for {} keys: circuit open", entries.size());
+            } else {
+                log.error("Cache MSET error for {} keys: {}", entries.size(), e.getMessage());
+            }
+        } finally {
+            recordLatency(entries.keySet().iterator().next(), "MSET", start);
         }
     }
 
@@ -69,11 +412,15 @@ public class CacheService {
      * @param value Value to cache
      */
     public void set(String key, Object value) {
+        long start = System.nanoTime();
         try {
-            redisTemplate.opsForValue().set(key, value);
+            circuitBreaker.run(() -> redisTemplate.opsForValue().set(key, value));
+            nearCache.invalidate(key);
             log.debug("Cache SET: {} (no TTL)", key);
         } catch (Exception e) {
-            log.error("Cache SET error for key {}: {}", key, e.getMessage());
+            logError("SET", key, e);
+        } finally {
+            recordLatency(key, "SET", start);
         }
     }
 
@@ -84,16 +431,44 @@ public class CacheService {
      * @return true if deleted, false otherwise
      */
     public boolean delete(String key) {
+        long start = System.nanoTime();
         try {
             Boolean deleted = redisTemplate.delete(key);
+            nearCache.invalidate(key);
             if (Boolean.TRUE.equals(deleted)) {
                 log.debug("Cache DELETE: {}", key);
                 return true;
             }
             return false;
         } catch (Exception e) {
-            log.error("Cache DELETE error for key {}: {}", key, e.getMessage());
+            logError("DELETE", key, e);
             return false;
+        } finally {
+            recordLatency(key, "DELETE", start);
+        }
+    }
+
+    /**
+     * Delete many values in one round trip (multi-key DEL).
+     *
+     * @param keys Cache keys
+     * @return Number of keys deleted
+     */
+    public long multiDelete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            Long deleted = redisTemplate.delete(keys);
+            keys.forEach(nearCache::invalidate);
+            log.debug("Cache MDEL: {} of {} keys", deleted, keys.size());
+            return deleted != null ? deleted : 0;
+        } catch (Exception e) {
+            log.error("Cache MDEL error for {} keys: {}", keys.size(), e.getMessage());
+            return 0;
+        } finally {
+            recordLatency(keys.iterator().next(), "MDEL", start);
         }
     }
 
@@ -104,12 +479,15 @@ public class CacheService {
      * @return true if exists, false otherwise
      */
     public boolean exists(String key) {
+        long start = System.nanoTime();
         try {
-            Boolean exists = redisTemplate.hasKey(key);
+            Boolean exists = circuitBreaker.execute(() -> redisTemplate.hasKey(key));
             return Boolean.TRUE.equals(exists);
         } catch (Exception e) {
-            log.error("Cache EXISTS error for key {}: {}", key, e.getMessage());
+            logError("EXISTS", key, e);
             return false;
+        } finally {
+            recordLatency(key, "EXISTS", start);
         }
     }
 
@@ -121,12 +499,16 @@ public class CacheService {
      * @return true if TTL set, false otherwise
      */
     public boolean expire(String key, Duration ttl) {
+        long start = System.nanoTime();
         try {
             Boolean result = redisTemplate.expire(key, ttl.toMillis(), TimeUnit.MILLISECONDS);
+            nearCache.invalidate(key);
             return Boolean.TRUE.equals(result);
         } catch (Exception e) {
-            log.error("Cache EXPIRE error for key {}: {}", key, e.getMessage());
+            logError("EXPIRE", key, e);
             return false;
+        } finally {
+            recordLatency(key, "EXPIRE", start);
         }
     }
 
@@ -138,11 +520,14 @@ public class CacheService {
      * @return New value after increment
      */
     public Long increment(String key) {
+        long start = System.nanoTime();
         try {
-            return redisTemplate.opsForValue().increment(key);
+            return circuitBreaker.execute(() -> redisTemplate.opsForValue().increment(key));
         } catch (Exception e) {
-            log.error("Cache INCREMENT error for key {}: {}", key, e.getMessage());
+            logError("INCREMENT", key, e);
             return null;
+        } finally {
+            recordLatency(key, "INCREMENT", start);
         }
     }
 
@@ -154,16 +539,37 @@ public class CacheService {
      * @return New value after increment
      */
     public Long incrementWithExpiry(String key, Duration ttl) {
+        long start = System.nanoTime();
         try {
-            Long value = redisTemplate.opsForValue().increment(key);
+            Long value = circuitBreaker.execute(() -> redisTemplate.opsForValue().increment(key));
             if (value != null && value == 1) {
                 // First increment, set TTL
                 redisTemplate.expire(key, ttl.toMillis(), TimeUnit.MILLISECONDS);
             }
             return value;
         } catch (Exception e) {
-            log.error("Cache INCREMENT error for key {}: {}", key, e.getMessage());
+            logError("INCREMENT", key, e);
             return null;
+        } finally {
+            recordLatency(key, "INCREMENT", start);
+        }
+    }
+
+    /**
+     * Record operation latency under the keyspace of the (first) key.
+     */
+    private void recordLatency(String key, String operation, long start) {
+        metrics.recordLatency(metrics.keyspace(key), operation, System.nanoTime() - start);
+    }
+
+    /**
+     * Log a failed cache call; breaker rejections are expected while Redis is down.
+     */
+    private void logError(String operation, String key, Exception e) {
+        if (RedisCircuitBreaker.isRejected(e)) {
+            log.debug("Cache {} skipped for key {}: circuit open", operation, key);
+        } else {
+            log.error("Cache {} error for key {}: {}", operation, key, e.getMessage());
         }
     }
 }
@@ -0,0 +1,34 @@
+package com.project.infrastructure.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint with live Redis cache hit rates per keyspace.
+ * GET /actuator/cachestats
+ *
+ * Counts are cumulative since startup; use the cache.hits / cache.misses
+ * metrics for rates over time.
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final CacheMetrics cacheMetrics;
+
+    public CacheStatsEndpoint(CacheMetrics cacheMetrics) {
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> cacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hitRate", cacheMetrics.getHitRate());
+        stats.put("keyspaces", cacheMetrics.getKeyspaceStats());
+        return stats;
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis value codec for cached objects.
+ * Used by the application RedisTemplate (and so {@link CacheService}) and the RedisCacheManager.
+ *
+ * Formats:
+ * - SMILE: binary JSON (Jackson Smile), prefixed with a one-byte version header.
+ *   Field names and repeated short strings (e.g. @class type ids) are
+ *   back-referenced, and numbers are stored in binary, so payloads are smaller
+ *   and cheaper to parse than JSON text.
+ * - JSON: legacy GenericJackson2JsonRedisSerializer text, no header
+ *
+ * Compression (SMILE only):
+ * - Encoded values larger than the threshold are LZ4-compressed and stored as
+ *   [LZ4 marker][original length (4 bytes)][compressed encoded value]
+ * - Kept only if it saves space; small values are never compressed (not worth the CPU)
+ * - JSON values are never compressed, so nodes predating the codec can read them
+ *
+ * Reads accept every format regardless of the configured write format, so
+ * values written by older nodes stay readable during a rolling upgrade.
+ * JSON text never starts with a header byte (< 0x20), which keeps the two apart.
+ *
+ * Metrics:
+ * - cache.codec.compression.ratio: original / compressed size of compressed values
+ * - cache.codec.compression.time, cache.codec.decompression.time
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    /** Header byte of Smile-encoded values, format version 1. */
+    static final byte SMILE_V1 = 0x01;
+
+    /** Header byte of LZ4-compressed values (wrapping a Smile or JSON value). */
+    static final byte LZ4 = 0x02;
+
+    private static final int LZ4_HEADER_LENGTH = 5;
+    private static final byte[] EMPTY = new byte[0];
+
+    public enum Format {
+        JSON, SMILE
+    }
+
+    private final Format format;
+    private final int compressionThreshold;
+    private final ObjectMapper smileMapper;
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    private final DistributionSummary compressionRatio;
+    private final Timer compressionTime;
+    private final Timer decompressionTime;
+
+    /**
+     * @param format Format to write
+     * @param jsonMapper JSON mapper (modules and default typing are reused for Smile)
+     * @param compressionThreshold Compress encoded values larger than this many bytes (0 = never; ignored for JSON)
+     * @param meterRegistry Registry for compression metrics
+     */
+    public CacheValueSerializer(
+            Format format,
+            ObjectMapper jsonMapper,
+            int compressionThreshold,
+            MeterRegistry meterRegistry) {
+        this.format = format;
+        this.compressionThreshold = compressionThreshold;
+        this.jsonSerializer = new GenericJackson2JsonRedisSerializer(jsonMapper);
+        // Smile's own 4-byte header stays on: it carries the shared-string flags
+        this.smileMapper = jsonMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.fastDecompressor();
+
+        this.compressionRatio = DistributionSummary.builder("cache.codec.compression.ratio")
+                .description("Original / compressed size of compressed cache values")
+                .register(meterRegistry);
+
+        this.compressionTime = Timer.builder("cache.codec.compression.time")
+                .description("Time to compress a cache value")
+                .register(meterRegistry);
+
+        this.decompressionTime = Timer.builder("cache.codec.decompression.time")
+                .description("Time to decompress a cache value")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        if (format == Format.JSON) {
+            // Plain JSON only: older nodes cannot read the LZ4 header
+            return jsonSerializer.serialize(value);
+        }
+        byte[] encoded = encodeSmile(value);
+        if (compressionThreshold > 0 && encoded.length > compressionThreshold) {
+            return compress(encoded);
+        }
+        return encoded;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == LZ4) {
+            bytes = decompress(bytes);
+        }
+        if (bytes[0] != SMILE_V1) {
+            // No header: legacy JSON
+            return jsonSerializer.deserialize(bytes);
+        }
+        try {
+            return smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    private byte[] encodeSmile(Object value) {
+        try {
+            byte[] payload = smileMapper.writeValueAsBytes(value);
+            byte[] bytes = new byte[payload.length + 1];
+            bytes[0] = SMILE_V1;
+            System.arraycopy(payload, 0, bytes, 1, payload.length);
+            return bytes;
+        } catch (Exception e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compress encoded value, or return it unchanged if compression does not save space.
+     */
+    private byte[] compress(byte[] encoded) {
+        long start = System.nanoTime();
+        byte[] buffer = new byte[LZ4_HEADER_LENGTH + compressor.maxCompressedLength(encoded.length)];
+        int compressedLength = compressor.compress(encoded, 0, encoded.length, buffer, LZ4_HEADER_LENGTH);
+        int total = LZ4_HEADER_LENGTH + compressedLength;
+        compressionTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (total >= encoded.length) {
+            return encoded;
+        }
+        buffer[0] = LZ4;
+        buffer[1] = (byte) (encoded.length >>> 24);
+        buffer[2] = (byte) (encoded.length >>> 16);
+        buffer[3] = (byte) (encoded.length >>> 8);
+        buffer[4] = (byte) encoded.length;
+        compressionRatio.record((double) encoded.length / total);
+
+        byte[] bytes = new byte[total];
+        System.arraycopy(buffer, 0, bytes, 0, total);
+        return bytes;
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < LZ4_HEADER_LENGTH) {
+            throw new SerializationException("Truncated LZ4 value");
+        }
+        long start = System.nanoTime();
+        int originalLength = ((bytes[1] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16)
+                | ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF);
+        try {
+            byte[] original = new byte[originalLength];
+            decompressor.decompress(bytes, LZ4_HEADER_LENGTH, original, 0, originalLength);
+            return original;
+        } catch (Exception e) {
+            throw new SerializationException("Could not decompress LZ4: " + e.getMessage(), e);
+        } finally {
+            decompressionTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
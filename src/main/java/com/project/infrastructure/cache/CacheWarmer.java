@@ -1,19 +1,35 @@
 package com.project.infrastructure.cache;
 
+import com.project.domain.model.ApiKey;
 import com.project.infrastructure.persistence.entity.ApiKeyEntity;
+import com.project.infrastructure.persistence.mapper.ApiKeyMapper;
 import com.project.infrastructure.persistence.repository.ApiKeyRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Cache warmer to pre-populate cache on application startup.
  * Improves initial response times by caching frequently used data.
+ *
+ * Warming strategy:
+ * - Stream active, unexpired API keys from the database in keyset-paginated batches
+ * - Map each batch in bulk and write it to Redis in one pipelined round trip
+ * - Memory and round trips per batch stay constant as the number of keys grows
+ *
+ * Readiness is held at REFUSING_TRAFFIC until warming completes, so load
+ * balancers only route traffic to a node with a warm cache.
  */
 @Component
 public class CacheWarmer {
@@ -22,35 +38,72 @@ public class CacheWarmer {
 
     private final ApiKeyCacheService apiKeyCacheService;
     private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyMapper apiKeyMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
 
     public CacheWarmer(
             ApiKeyCacheService apiKeyCacheService,
-            ApiKeyRepository apiKeyRepository) {
+            ApiKeyRepository apiKeyRepository,
+            ApiKeyMapper apiKeyMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${cache.warmer.batch-size:1000}") int batchSize) {
         this.apiKeyCacheService = apiKeyCacheService;
         this.apiKeyRepository = apiKeyRepository;
+        this.apiKeyMapper = apiKeyMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
     }
 
     /**
      * Warm cache on application startup.
-     * Loads active API keys into cache.
+     * Loads active API keys into cache, then reports readiness.
      */
     @EventListener(ApplicationReadyEvent.class)
     public void warmCacheOnStartup() {
         log.info("Starting cache warming...");
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
 
+        long startTime = System.currentTimeMillis();
         try {
-            // Find all active API keys
-            List<String> activeKeyHashes = apiKeyRepository.findAll().stream()
-                    .filter(ApiKeyEntity::getIsActive)
-                    .map(ApiKeyEntity::getKeyHash)
-                    .collect(Collectors.toList());
-
-            // Warm cache with active keys
-            apiKeyCacheService.warmCache(activeKeyHashes);
+            int warmed = warmActiveApiKeys();
 
-            log.info("Cache warming completed. Loaded {} active API keys", activeKeyHashes.size());
+            log.info("Cache warming completed. Loaded {} active API keys in {} ms",
+                warmed, System.currentTimeMillis() - startTime);
         } catch (Exception e) {
             log.error("Cache warming failed: {}", e.getMessage(), e);
+        } finally {
+            // Serve traffic even if warming failed (cache-aside fills on demand)
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
         }
     }
+
+    /**
+     * Stream active, unexpired API keys in batches and bulk-write them to cache.
+     *
+     * @return Number of API keys cached
+     */
+    public int warmActiveApiKeys() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest firstPage = PageRequest.of(0, batchSize);
+
+        int warmed = 0;
+        long lastId = 0L;
+        List<ApiKeyEntity> batch;
+        do {
+            batch = apiKeyRepository.findActiveUnexpiredAfter(now, lastId, firstPage);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<ApiKey> apiKeys = batch.stream()
+                    .map(apiKeyMapper::toDomain)
+                    .collect(Collectors.toList());
+            warmed += apiKeyCacheService.warmAll(apiKeys);
+
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == batchSize);
+
+        return warmed;
+    }
 }
@@ -0,0 +1,35 @@
+package com.project.infrastructure.cache;
+
+/**
+ * Cached value together with the time it took to compute.
+ * Stored by {@link CacheService#getOrLoad} to drive probabilistic early
+ * recomputation: expensive values are refreshed earlier than cheap ones.
+ */
+public class ComputedValue {
+
+    private Object value;
+    private long computeMillis;
+
+    public ComputedValue() {}
+
+    public ComputedValue(Object value, long computeMillis) {
+        this.value = value;
+        this.computeMillis = computeMillis;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public void setValue(Object value) {
+        this.value = value;
+    }
+
+    public long getComputeMillis() {
+        return computeMillis;
+    }
+
+    public void setComputeMillis(long computeMillis) {
+        this.computeMillis = computeMillis;
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.infrastructure.cache;
+
+import io.lettuce.core.RedisURI;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.util.StringUtils;
+
+/**
+ * Helpers for the dedicated Lettuce connections opened next to the RedisTemplate.
+ */
+final class LettuceClients {
+
+    private LettuceClients() {
+    }
+
+    /**
+     * Build a Redis URI from the spring.data.redis properties.
+     */
+    static RedisURI redisUri(RedisProperties properties) {
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(properties.getHost())
+                .withPort(properties.getPort())
+                .withDatabase(properties.getDatabase())
+                .withSsl(properties.getSsl().isEnabled());
+        if (StringUtils.hasText(properties.getPassword())) {
+            if (StringUtils.hasText(properties.getUsername())) {
+                builder.withAuthentication(properties.getUsername(), properties.getPassword());
+            } else {
+                builder.withPassword(properties.getPassword().toCharArray());
+            }
+        }
+        if (properties.getTimeout() != null) {
+            builder.withTimeout(properties.getTimeout());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,200 @@
+package com.project.infrastructure.cache;
+
+import com.project.infrastructure.persistence.listener.OrderChangedEvent;
+import com.project.infrastructure.persistence.listener.ProductChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache for list and page query results, invalidated by namespace versioning.
+ *
+ * Versioning:
+ * - Each entity namespace (product, order) has a version counter in Redis (version:{namespace})
+ * - Results are cached under list:{namespace}:{version}:{query + parameters},
+ *   loaded through {@link CacheService#getOrLoad} (request coalescing and
+ *   early recomputation of results close to expiry)
+ * - Any committed write to the entity bumps the version (INCR): every list
+ *   cached under the old version becomes unreachable at once, without
+ *   scanning or deleting keys, and expires on its own TTL
+ * - A missing counter starts at the current time in milliseconds, so a
+ *   counter lost to eviction never reuses the version of entries still cached
+ *
+ * While Redis is unavailable, queries go straight to the database.
+ * Bumps bypass the circuit breaker so invalidations are always attempted.
+ */
+@Service
+public class ListCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(ListCacheService.class);
+
+    public static final String PRODUCT_NAMESPACE = "product";
+    public static final String ORDER_NAMESPACE = "order";
+
+    private final CacheService cacheService;
+    private final RedisTemplate<String, Long> versionTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final Duration ttl;
+
+    public ListCacheService(
+            CacheService cacheService,
+            RedisTemplate<String, Long> versionTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            @Value("${cache.list.ttl:5m}") Duration ttl) {
+        this.cacheService = cacheService;
+        this.versionTemplate = versionTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Get cached list result, or run the query and cache it.
+     *
+     * @param namespace Entity namespace whose writes invalidate the result
+     * @param query Query name and parameters (unique within the namespace)
+     * @param loader Database query
+     * @return Query result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String namespace, String query, Supplier<List<T>> loader) {
+        Long version = currentVersion(namespace);
+        if (version == null) {
+            return loader.get();
+        }
+
+        String cacheKey = CacheKeyGenerator.listQuery(namespace, version, query);
+        return (List<T>) cacheService.getOrLoad(cacheKey, List.class, ttl, () -> new ArrayList<>(loader.get()));
+    }
+
+    /**
+     * Get cached page result, or run the query and cache it.
+     *
+     * @param namespace Entity namespace whose writes invalidate the result
+     * @param query Query name and parameters, excluding paging (added here)
+     * @param pageable Requested page
+     * @param loader Database query
+     * @return Query result page
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Page<T> getPage(String namespace, String query, Pageable pageable, Supplier<Page<T>> loader) {
+        Long version = currentVersion(namespace);
+        if (version == null) {
+            return loader.get();
+        }
+
+        String cacheKey = CacheKeyGenerator.listQuery(namespace, version, query + ":" + pageKey(pageable));
+        CachedPage cached = cacheService.getOrLoad(cacheKey, CachedPage.class, ttl, () -> {
+            Page<T> result = loader.get();
+            return new CachedPage(new ArrayList<>(result.getContent()), result.getTotalElements());
+        });
+        return new PageImpl<>((List<T>) cached.getContent(), pageable, cached.getTotalElements());
+    }
+
+    /**
+     * Retire every cached list of a namespace.
+     *
+     * @param namespace Entity namespace
+     */
+    public void bump(String namespace) {
+        String versionKey = CacheKeyGenerator.namespaceVersion(namespace);
+        try {
+            versionTemplate.opsForValue().setIfAbsent(versionKey, System.currentTimeMillis());
+            Long version = versionTemplate.opsForValue().increment(versionKey);
+            log.debug("List cache namespace {} now at version {}", namespace, version);
+        } catch (Exception e) {
+            log.error("List cache version bump failed for namespace {}: {}", namespace, e.getMessage());
+        }
+    }
+
+    /**
+     * Retire cached product lists after a committed product change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        bump(PRODUCT_NAMESPACE);
+    }
+
+    /**
+     * Retire cached order lists after a committed order change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderChanged(OrderChangedEvent event) {
+        bump(ORDER_NAMESPACE);
+    }
+
+    /**
+     * Current version of a namespace, initialized if missing.
+     *
+     * @return Version, or null if Redis is unavailable (bypass the cache)
+     */
+    Long currentVersion(String namespace) {
+        String versionKey = CacheKeyGenerator.namespaceVersion(namespace);
+        try {
+            return circuitBreaker.execute(() -> {
+                Long version = versionTemplate.opsForValue().get(versionKey);
+                if (version == null) {
+                    versionTemplate.opsForValue().setIfAbsent(versionKey, System.currentTimeMillis());
+                    version = versionTemplate.opsForValue().get(versionKey);
+                }
+                return version;
+            });
+        } catch (Exception e) {
+            if (RedisCircuitBreaker.isRejected(e)) {
+                log.debug("List cache skipped for namespace {}: circuit open", namespace);
+            } else {
+                log.error("List cache version lookup failed for namespace {}: {}", namespace, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static String pageKey(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "unpaged:" + pageable.getSort();
+        }
+        return "p" + pageable.getPageNumber() + ":s" + pageable.getPageSize() + ":" + pageable.getSort();
+    }
+
+    /**
+     * Cached page: content and total count (the page request is known to the caller).
+     */
+    public static class CachedPage {
+        private List<Object> content;
+        private long totalElements;
+
+        public CachedPage() {
+        }
+
+        public CachedPage(List<Object> content, long totalElements) {
+            this.content = content;
+            this.totalElements = totalElements;
+        }
+
+        public List<Object> getContent() {
+            return content;
+        }
+
+        public void setContent(List<Object> content) {
+            this.content = content;
+        }
+
+        public long getTotalElements() {
+            return totalElements;
+        }
+
+        public void setTotalElements(long totalElements) {
+            this.totalElements = totalElements;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.project.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in in-process near cache for hot keyspaces, kept coherent by Redis
+ * server-assisted client-side caching (RESP3 CLIENT TRACKING).
+ * Used by {@link CacheService} for get / getWithTtl of covered keys.
+ *
+ * Tracking:
+ * - A dedicated RESP3 connection enables CLIENT TRACKING in BCAST mode for the
+ *   configured prefixes, so Redis pushes an invalidation for every write,
+ *   delete, expiry or eviction of a matching key, whichever node caused it
+ * - BCAST (rather than default key tracking) because reads go through the
+ *   RedisTemplate connection, not the tracking connection
+ * - While the tracking connection is down, invalidations may be missed:
+ *   the near cache is cleared and bypassed until tracking is re-enabled
+ *
+ * Races: an invalidation can arrive while a value read from Redis is on its
+ * way into the near cache. Every invalidation bumps a generation counter;
+ * a value is kept only if no invalidation happened since its read started.
+ *
+ * Entries also expire after cache.near.ttl as a safety net.
+ */
+@Component
+public class NearCache {
+
+    private static final Logger log = LoggerFactory.getLogger(NearCache.class);
+
+    /** Expiry of entries read without their Redis TTL. */
+    static final long UNKNOWN_EXPIRY = -1;
+
+    /** Expiry of entries whose Redis key has no TTL. */
+    static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final boolean enabled;
+    private final List<String> prefixes;
+    private final RedisClient client;
+    private final Cache<String, Entry> entries;
+    private final Counter invalidations;
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile boolean tracking;
+    private StatefulRedisConnection<String, String> connection;
+
+    @Autowired
+    public NearCache(
+            RedisProperties redisProperties,
+            MeterRegistry meterRegistry,
+            @Value("${cache.near.enabled:false}") boolean enabled,
+            @Value("${cache.near.prefixes:apikey:,product:}") List<String> prefixes,
+            @Value("${cache.near.max-size:10000}") long maxSize,
+            @Value("${cache.near.ttl:5m}") Duration ttl) {
+        this(enabled ? resp3Client(redisProperties) : null, meterRegistry, enabled, prefixes, maxSize, ttl);
+    }
+
+    NearCache(
+            RedisClient client,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            List<String> prefixes,
+            long maxSize,
+            Duration ttl) {
+        this.client = client;
+        this.enabled = enabled;
+        this.prefixes = List.copyOf(prefixes);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.invalidations = Counter.builder("cache.near.invalidations")
+                .description("Invalidation messages applied to the near cache")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "near");
+    }
+
+    /**
+     * Check if key is served from the near cache (enabled, tracking active, prefix matches).
+     */
+    public boolean covers(String key) {
+        if (!tracking) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether invalidations are currently being received.
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * Get near-cached entry, or null if absent.
+     */
+    Entry get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    /**
+     * Invalidation generation; read before loading a value from Redis and pass it to put.
+     */
+    long stamp() {
+        return generation.get();
+    }
+
+    /**
+     * Keep a value read from Redis, unless an invalidation arrived since the read started.
+     *
+     * @param key Cache key
+     * @param value Value read from Redis
+     * @param expiresAt Redis expiry (epoch millis), {@link #UNKNOWN_EXPIRY} or {@link #NO_EXPIRY}
+     * @param stamp {@link #stamp()} taken before the read
+     */
+    void put(String key, Object value, long expiresAt, long stamp) {
+        if (!tracking || generation.get() != stamp) {
+            return;
+        }
+        entries.put(key, new Entry(value, expiresAt));
+        // Re-check after the put: an invalidation in between may have run before it
+        if (generation.get() != stamp) {
+            entries.invalidate(key);
+        }
+    }
+
+    /**
+     * Drop key after a local write (read-your-writes before Redis' own push arrives).
+     */
+    void invalidate(String key) {
+        if (covers(key)) {
+            onInvalidate(List.of(key));
+        }
+    }
+
+    /**
+     * Apply an invalidation message.
+     *
+     * @param keys Invalidated keys, or null when Redis flushed the database
+     */
+    void onInvalidate(Collection<String> keys) {
+        generation.incrementAndGet();
+        if (keys == null) {
+            entries.invalidateAll();
+        } else {
+            entries.invalidateAll(keys);
+        }
+        invalidations.increment();
+    }
+
+    /**
+     * Start receiving invalidations once the application is up.
+     * Retried periodically until Redis accepts CLIENT TRACKING (Redis 6+ required).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${cache.near.connect-retry-interval-ms:30000}",
+            fixedDelayString = "${cache.near.connect-retry-interval-ms:30000}")
+    public synchronized void startTracking() {
+        if (!enabled || connection != null) {
+            return;
+        }
+        StatefulRedisConnection<String, String> tracked = null;
+        try {
+            tracked = client.connect();
+            tracked.addListener(this::onPush);
+            tracked.addListener(new RedisConnectionStateListener() {
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                    suspend();
+                }
+
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+                    // Tracking is per connection: re-enable it after a reconnect
+                    ((StatefulRedisConnection<?, ?>) handler).async().clientTracking(trackingArgs())
+                            .thenRun(NearCache.this::resume)
+                            .exceptionally(e -> {
+                                log.warn("Near cache tracking not re-enabled: {}", e.getMessage());
+                                return null;
+                            });
+                }
+            });
+            tracked.sync().clientTracking(trackingArgs());
+            connection = tracked;
+            resume();
+            log.info("Near cache tracking enabled: prefixes={}", prefixes);
+        } catch (Exception e) {
+            log.warn("Near cache inactive, CLIENT TRACKING unavailable: {}", e.getMessage());
+            if (tracked != null) {
+                tracked.close();
+            }
+        }
+    }
+
+    /**
+     * Start serving from the near cache (tracking confirmed active).
+     */
+    void resume() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+        tracking = true;
+    }
+
+    /**
+     * Stop serving from the near cache (invalidations may be missed).
+     */
+    void suspend() {
+        boolean wasTracking = tracking;
+        tracking = false;
+        generation.incrementAndGet();
+        entries.invalidateAll();
+        if (wasTracking) {
+            log.warn("Near cache suspended: tracking connection lost");
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        tracking = false;
+        if (connection != null) {
+            connection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent();
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?> list) {
+            List<String> decoded = new ArrayList<>(list.size());
+            for (Object key : list) {
+                decoded.add(key instanceof ByteBuffer buffer
+                        ? StringCodec.UTF8.decodeKey(buffer.duplicate())
+                        : String.valueOf(key));
+            }
+            onInvalidate(decoded);
+        } else {
+            onInvalidate(null);
+        }
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(prefixes.toArray(String[]::new));
+    }
+
+    private static RedisClient resp3Client(RedisProperties redisProperties) {
+        RedisClient client = RedisClient.create(LettuceClients.redisUri(redisProperties));
+        client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+        return client;
+    }
+
+    /**
+     * Near-cached value with the expiry of its Redis key.
+     */
+    static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        Object getValue() {
+            return value;
+        }
+
+        /**
+         * Remaining Redis TTL, {@link Duration#ZERO} if expired, or null if
+         * the key has no TTL. Only meaningful when {@link #hasKnownExpiry()}.
+         */
+        Duration remainingTtl(long now) {
+            if (expiresAt == NO_EXPIRY) {
+                return null;
+            }
+            return Duration.ofMillis(Math.max(0, expiresAt - now));
+        }
+
+        boolean hasKnownExpiry() {
+            return expiresAt != UNKNOWN_EXPIRY;
+        }
+    }
+}
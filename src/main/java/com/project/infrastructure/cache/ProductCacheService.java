@@ -0,0 +1,178 @@
+package com.project.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.domain.model.Product;
+import com.project.infrastructure.persistence.entity.ProductEntity;
+import com.project.infrastructure.persistence.listener.ProductChangedEvent;
+import com.project.infrastructure.persistence.mapper.ProductMapper;
+import com.project.infrastructure.persistence.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for product details, addressable by ID and by SKU.
+ *
+ * Cache Strategy:
+ * - L1: In-process Caffeine cache (size-bounded, short TTL)
+ * - L2: Redis, keys product:id:{id} and product:sku:{sku} (same value under both)
+ * - Pattern: Read-through in front of ProductRepository
+ * - Invalidation: Both keys are dropped after every committed JPA change
+ *   (update, stock change, delete) and broadcast to every node's L1 via pub/sub.
+ *   Inventory events on Kafka also evict L1 copies on every node
+ *   (see ProductCacheInvalidationConsumer).
+ */
+@Service
+public class ProductCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCacheService.class);
+    private static final String INVALIDATION_TOPIC = "product";
+
+    private final CacheService cacheService;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final Duration cacheTtl;
+    private final Cache<String, Product> localCache;
+
+    public ProductCacheService(
+            CacheService cacheService,
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${cache.product.local.max-size:10000}") long localMaxSize,
+            @Value("${cache.product.local.ttl:30s}") Duration localTtl,
+            @Value("${cache.product.ttl:10m}") Duration cacheTtl) {
+        this.cacheService = cacheService;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.invalidationBus = invalidationBus;
+        this.cacheTtl = cacheTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "product.local");
+        invalidationBus.subscribe(INVALIDATION_TOPIC, localCache::invalidate);
+    }
+
+    /**
+     * Find product by ID.
+     *
+     * Flow:
+     * 1. Check local (L1) cache
+     * 2. Check Redis (L2) cache, promote hit to L1
+     * 3. If cache miss, query database once per key (concurrent misses wait on the same load)
+     * 4. Store found product in both tiers under both keys
+     *
+     * @param id Product ID
+     * @return Optional containing Product domain model
+     */
+    public Optional<Product> findById(Long id) {
+        return find(CacheKeyGenerator.productById(id), () -> productRepository.findById(id));
+    }
+
+    /**
+     * Find product by SKU (same flow as {@link #findById}).
+     *
+     * @param sku Product SKU
+     * @return Optional containing Product domain model
+     */
+    public Optional<Product> findBySku(String sku) {
+        return find(CacheKeyGenerator.productBySku(sku), () -> productRepository.findBySku(sku));
+    }
+
+    private Optional<Product> find(String cacheKey, Supplier<Optional<ProductEntity>> loader) {
+        // 1. Check in-process cache
+        Product local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        // 2. Check Redis
+        Optional<Product> cached = cacheService.get(cacheKey, Product.class);
+        if (cached.isPresent()) {
+            log.debug("Product cache HIT: {}", cacheKey);
+            localCache.put(cacheKey, cached.get());
+            return cached;
+        }
+
+        // 3. Cache miss - query database (one loader per key, concurrent misses wait)
+        log.debug("Product cache MISS: {}", cacheKey);
+        return cacheService.loadOnce(cacheKey, () -> loadFromDatabase(loader));
+    }
+
+    /**
+     * Load product from database and populate both tiers under both keys.
+     * Unknown products are not cached.
+     */
+    private Optional<Product> loadFromDatabase(Supplier<Optional<ProductEntity>> loader) {
+        Optional<Product> product = loader.get().map(productMapper::toDomain);
+        product.ifPresent(this::store);
+        return product;
+    }
+
+    private void store(Product product) {
+        String idKey = CacheKeyGenerator.productById(product.getId());
+        String skuKey = CacheKeyGenerator.productBySku(product.getSku());
+
+        cacheService.multiSet(Map.of(idKey, product, skuKey, product), cacheTtl);
+        localCache.put(idKey, product);
+        localCache.put(skuKey, product);
+    }
+
+    /**
+     * Invalidate cached product.
+     * Evicts both keys from Redis and the local cache of every node.
+     *
+     * @param id Product ID
+     * @param sku Product SKU
+     */
+    public void invalidate(Long id, String sku) {
+        List<String> cacheKeys = List.of(CacheKeyGenerator.productById(id), CacheKeyGenerator.productBySku(sku));
+        long deleted = cacheService.multiDelete(cacheKeys);
+
+        for (String cacheKey : cacheKeys) {
+            localCache.invalidate(cacheKey);
+            invalidationBus.publish(INVALIDATION_TOPIC, cacheKey);
+        }
+
+        log.debug("Invalidated product cache: id={}, sku={} ({} Redis keys)", id, sku, deleted);
+    }
+
+    /**
+     * Evict product from this node's local cache only.
+     * Redis is left alone: the writing node drops it after commit.
+     *
+     * @param id Product ID
+     * @param sku Product SKU
+     */
+    public void evictLocal(Long id, String sku) {
+        localCache.invalidate(CacheKeyGenerator.productById(id));
+        localCache.invalidate(CacheKeyGenerator.productBySku(sku));
+    }
+
+    /**
+     * Invalidate cached product after a committed JPA change to the products row.
+     * Runs after commit so a concurrent reader cannot re-cache the old row.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        log.debug("Product {}: id={}, sku={}", event.getChangeType(), event.getProductId(), event.getSku());
+        invalidate(event.getProductId(), event.getSku());
+    }
+}
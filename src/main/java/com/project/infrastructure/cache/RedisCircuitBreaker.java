@@ -0,0 +1,105 @@
+package com.project.infrastructure.cache;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker shared by all Redis calls on the request path.
+ * Keeps tail latency bounded when Redis is slow or down: once tripped, calls
+ * fail immediately instead of waiting for the client timeout, and callers
+ * use their local fallback (L1 cache, database, node-local rate limiter).
+ *
+ * States:
+ * - CLOSED: Calls pass through; errors and slow calls are recorded
+ * - OPEN: Tripped by error rate or slow-call rate; calls rejected for wait-in-open-state
+ * - HALF_OPEN: A few probe calls decide whether to close again or reopen
+ *
+ * Metrics: resilience4j.circuitbreaker.* (tag name=redis)
+ */
+@Component
+public class RedisCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+    private final CircuitBreaker circuitBreaker;
+
+    public RedisCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${cache.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${cache.circuit-breaker.slow-call-threshold:100ms}") Duration slowCallThreshold,
+            @Value("${cache.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+            @Value("${cache.circuit-breaker.window-size:100}") int windowSize,
+            @Value("${cache.circuit-breaker.wait-in-open-state:5s}") Duration waitInOpenState) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.min(20, windowSize))
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(10)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker("redis");
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Redis circuit breaker: {}", event.getStateTransition()));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    /**
+     * Run a Redis call through the breaker.
+     *
+     * @throws CallNotPermittedException if the breaker is open
+     */
+    public <T> T execute(Supplier<T> call) {
+        return circuitBreaker.executeSupplier(call);
+    }
+
+    /**
+     * Run a Redis call without result through the breaker.
+     *
+     * @throws CallNotPermittedException if the breaker is open
+     */
+    public void run(Runnable call) {
+        circuitBreaker.executeRunnable(call);
+    }
+
+    /**
+     * Run an asynchronous Redis call through the breaker.
+     * While the breaker is open the returned future fails with {@link CallNotPermittedException}.
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletionStage<T>> call) {
+        return circuitBreaker.executeCompletionStage(call).toCompletableFuture();
+    }
+
+    /**
+     * Check if a failure was a rejection by the open breaker (not a Redis error).
+     */
+    public static boolean isRejected(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e instanceof CallNotPermittedException;
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+}
@@ -0,0 +1,204 @@
+package com.project.infrastructure.cache;
+
+import com.project.domain.model.User;
+import com.project.infrastructure.persistence.entity.UserEntity;
+import com.project.infrastructure.persistence.listener.UserChangedEvent;
+import com.project.infrastructure.persistence.mapper.UserMapper;
+import com.project.infrastructure.persistence.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cache service for users with cache-aside pattern.
+ *
+ * Cache Strategy:
+ * - Redis, keys user:{id} and user:email:{email} (same value under both)
+ * - Pattern: Cache-aside; a miss on either key fills both
+ * - Invalidation: Both keys are dropped after every committed JPA change.
+ *   On an email change the old email key is dropped too, so it cannot
+ *   resolve to the renamed user.
+ * - Batch: {@link #findAllById} resolves many ids with one MGET and one
+ *   database query for the misses
+ */
+@Service
+public class UserCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCacheService.class);
+
+    private final CacheService cacheService;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final Duration cacheTtl;
+
+    public UserCacheService(
+            CacheService cacheService,
+            UserRepository userRepository,
+            UserMapper userMapper,
+            @Value("${cache.user.ttl:15m}") Duration cacheTtl) {
+        this.cacheService = cacheService;
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.cacheTtl = cacheTtl;
+    }
+
+    /**
+     * Find user by ID (cache, then database).
+     *
+     * @param id User ID
+     * @return Optional containing User domain model
+     */
+    public Optional<User> findById(Long id) {
+        String cacheKey = CacheKeyGenerator.userById(id);
+        Optional<User> cached = cacheService.get(cacheKey, User.class);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return cacheService.loadOnce(cacheKey, () -> load(userRepository.findById(id)));
+    }
+
+    /**
+     * Find user by email (cache, then database).
+     *
+     * @param email User email
+     * @return Optional containing User domain model
+     */
+    public Optional<User> findByEmail(String email) {
+        Optional<User> cached = findCachedByEmail(email);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return cacheService.loadOnce(CacheKeyGenerator.userByEmail(email),
+                () -> load(userRepository.findByEmail(email)));
+    }
+
+    /**
+     * Find user by email in the cache only (no database query on a miss).
+     *
+     * @param email User email
+     * @return Optional containing cached User, empty if not cached
+     */
+    public Optional<User> findCachedByEmail(String email) {
+        // Guard against an entry missed by invalidation: it must still carry this email
+        return cacheService.get(CacheKeyGenerator.userByEmail(email), User.class)
+                .filter(user -> email.equals(user.getEmail()));
+    }
+
+    /**
+     * Resolve many users at once.
+     *
+     * Flow:
+     * 1. One MGET for all user:{id} keys
+     * 2. One database query (IN list) for the misses
+     * 3. Loaded users cached under both keys in one pipeline
+     *
+     * @param ids User IDs
+     * @return Found users by ID, in request order (unknown IDs are left out)
+     */
+    public Map<Long, User> findAllById(Collection<Long> ids) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> cacheKeys = new ArrayList<>(uniqueIds.size());
+        for (Long id : uniqueIds) {
+            cacheKeys.add(CacheKeyGenerator.userById(id));
+        }
+        Map<String, User> cached = cacheService.multiGet(cacheKeys, User.class);
+
+        List<Long> missing = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            if (!cached.containsKey(CacheKeyGenerator.userById(id))) {
+                missing.add(id);
+            }
+        }
+
+        Map<Long, User> loaded = new HashMap<>(missing.size() * 2);
+        if (!missing.isEmpty()) {
+            List<User> users = new ArrayList<>(missing.size());
+            for (UserEntity entity : userRepository.findAllById(missing)) {
+                User user = userMapper.toDomain(entity);
+                users.add(user);
+                loaded.put(user.getId(), user);
+            }
+            store(users);
+            log.debug("User batch: {} cached, {} loaded, {} unknown",
+                    cached.size(), loaded.size(), missing.size() - loaded.size());
+        }
+
+        Map<Long, User> result = new LinkedHashMap<>(uniqueIds.size() * 2);
+        for (Long id : uniqueIds) {
+            User user = cached.get(CacheKeyGenerator.userById(id));
+            if (user == null) {
+                user = loaded.get(id);
+            }
+            if (user != null) {
+                result.put(id, user);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Invalidate cached user under both keys.
+     *
+     * @param id User ID
+     * @param emails Emails the user is (or was) cached under
+     */
+    public void invalidate(Long id, String... emails) {
+        List<String> cacheKeys = new ArrayList<>(1 + emails.length);
+        cacheKeys.add(CacheKeyGenerator.userById(id));
+        for (String email : emails) {
+            if (email != null) {
+                cacheKeys.add(CacheKeyGenerator.userByEmail(email));
+            }
+        }
+        long deleted = cacheService.multiDelete(cacheKeys);
+        log.debug("Invalidated user cache: id={} ({} Redis keys)", id, deleted);
+    }
+
+    /**
+     * Invalidate cached user after a committed JPA change to the users row.
+     * Runs after commit so a concurrent reader cannot re-cache the old row.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("User {}: id={}", event.getChangeType(), event.getUserId());
+        invalidate(event.getUserId(), event.getEmail(), event.getPreviousEmail());
+    }
+
+    private Optional<User> load(Optional<UserEntity> entity) {
+        Optional<User> user = entity.map(userMapper::toDomain);
+        user.ifPresent(found -> store(List.of(found)));
+        return user;
+    }
+
+    /**
+     * Write users to Redis under both keys in one pipelined round trip.
+     */
+    private void store(List<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<String, User> entries = new HashMap<>(users.size() * 4);
+        for (User user : users) {
+            entries.put(CacheKeyGenerator.userById(user.getId()), user);
+            entries.put(CacheKeyGenerator.userByEmail(user.getEmail()), user);
+        }
+        cacheService.multiSet(entries, cacheTtl);
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.infrastructure.persistence.entity;
 
+import com.project.infrastructure.persistence.listener.ApiKeyEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "api_keys")
+@EntityListeners(ApiKeyEntityListener.class)
 public class ApiKeyEntity extends BaseEntity {
 
     @Column(name = "key_hash", nullable = false, unique = true, length = 64)
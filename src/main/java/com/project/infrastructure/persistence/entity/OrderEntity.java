@@ -1,5 +1,6 @@
 package com.project.infrastructure.persistence.entity;
 
+import com.project.infrastructure.persistence.listener.OrderEntityListener;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -11,6 +12,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "orders")
+@EntityListeners(OrderEntityListener.class)
 public class OrderEntity extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
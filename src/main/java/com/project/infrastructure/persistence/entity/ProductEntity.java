@@ -1,5 +1,6 @@
 package com.project.infrastructure.persistence.entity;
 
+import com.project.infrastructure.persistence.listener.ProductEntityListener;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 
@@ -9,6 +10,7 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "products")
+@EntityListeners(ProductEntityListener.class)
 public class ProductEntity extends BaseEntity {
 
     @Column(name = "name", nullable = false, length = 255)
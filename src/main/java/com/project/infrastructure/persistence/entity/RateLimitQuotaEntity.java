@@ -0,0 +1,47 @@
+package com.project.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Rate limit quota entity.
+ * Either a tier default (tier set) or a per-key override (keyHash set).
+ */
+@Entity
+@Table(name = "rate_limit_quotas")
+public class RateLimitQuotaEntity extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tier", unique = true, length = 20)
+    private ApiKeyEntity.RateLimitTier tier;
+
+    @Column(name = "key_hash", unique = true, length = 64)
+    private String keyHash;
+
+    @Column(name = "requests_per_minute", nullable = false)
+    private Integer requestsPerMinute;
+
+    // Getters and setters
+    public ApiKeyEntity.RateLimitTier getTier() {
+        return tier;
+    }
+
+    public void setTier(ApiKeyEntity.RateLimitTier tier) {
+        this.tier = tier;
+    }
+
+    public String getKeyHash() {
+        return keyHash;
+    }
+
+    public void setKeyHash(String keyHash) {
+        this.keyHash = keyHash;
+    }
+
+    public Integer getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public void setRequestsPerMinute(Integer requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.infrastructure.persistence.entity;
 
+import com.project.infrastructure.persistence.listener.UserEntityListener;
 import jakarta.persistence.*;
 
 /**
@@ -8,6 +9,7 @@ import jakarta.persistence.*;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserEntityListener.class)
 public class UserEntity extends BaseEntity {
 
     @Column(name = "email", nullable = false, unique = true, length = 255)
@@ -23,6 +25,10 @@ public class UserEntity extends BaseEntity {
     @Column(name = "status", nullable = false, length = 20)
     private UserStatus status = UserStatus.ACTIVE;
 
+    /** Email as loaded from the database (not persisted; see UserEntityListener). */
+    @Transient
+    private String loadedEmail;
+
     public enum UserStatus {
         ACTIVE, INACTIVE, SUSPENDED
     }
@@ -36,6 +42,14 @@ public class UserEntity extends BaseEntity {
         this.email = email;
     }
 
+    public String getLoadedEmail() {
+        return loadedEmail;
+    }
+
+    public void setLoadedEmail(String loadedEmail) {
+        this.loadedEmail = loadedEmail;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -0,0 +1,28 @@
+package com.project.infrastructure.persistence.listener;
+
+/**
+ * Application event raised when an API key row is created, updated or deleted
+ * through JPA. Consumed by the cache layer to keep cached keys coherent.
+ */
+public class ApiKeyChangedEvent {
+
+    private final String keyHash;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public ApiKeyChangedEvent(String keyHash, ChangeType changeType) {
+        this.keyHash = keyHash;
+        this.changeType = changeType;
+    }
+
+    public String getKeyHash() {
+        return keyHash;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
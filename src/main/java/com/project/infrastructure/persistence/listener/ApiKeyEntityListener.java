@@ -0,0 +1,43 @@
+package com.project.infrastructure.persistence.listener;
+
+import com.project.infrastructure.persistence.entity.ApiKeyEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener for API keys.
+ * Publishes an {@link ApiKeyChangedEvent} for every persisted change so caches
+ * can react after the transaction commits.
+ *
+ * Instantiated by Hibernate through Spring's bean container (constructor injection).
+ * Bulk JPQL updates (e.g. last_used_at) bypass entity callbacks and raise no event.
+ */
+public class ApiKeyEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApiKeyEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(ApiKeyEntity entity) {
+        publish(entity, ApiKeyChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(ApiKeyEntity entity) {
+        publish(entity, ApiKeyChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(ApiKeyEntity entity) {
+        publish(entity, ApiKeyChangedEvent.ChangeType.DELETED);
+    }
+
+    private void publish(ApiKeyEntity entity, ApiKeyChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new ApiKeyChangedEvent(entity.getKeyHash(), changeType));
+    }
+}
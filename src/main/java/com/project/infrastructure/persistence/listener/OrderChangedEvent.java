@@ -0,0 +1,28 @@
+package com.project.infrastructure.persistence.listener;
+
+/**
+ * Application event raised when an order row is created, updated or deleted
+ * through JPA. Consumed by the cache layer to retire cached order lists.
+ */
+public class OrderChangedEvent {
+
+    private final Long orderId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public OrderChangedEvent(Long orderId, ChangeType changeType) {
+        this.orderId = orderId;
+        this.changeType = changeType;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
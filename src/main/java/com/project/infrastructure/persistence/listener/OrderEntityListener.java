@@ -0,0 +1,42 @@
+package com.project.infrastructure.persistence.listener;
+
+import com.project.infrastructure.persistence.entity.OrderEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener for orders.
+ * Publishes an {@link OrderChangedEvent} for every persisted change so caches
+ * can react after the transaction commits.
+ *
+ * Instantiated by Hibernate through Spring's bean container (constructor injection).
+ */
+public class OrderEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OrderEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(OrderEntity entity) {
+        publish(entity, OrderChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(OrderEntity entity) {
+        publish(entity, OrderChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(OrderEntity entity) {
+        publish(entity, OrderChangedEvent.ChangeType.DELETED);
+    }
+
+    private void publish(OrderEntity entity, OrderChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new OrderChangedEvent(entity.getId(), changeType));
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.infrastructure.persistence.listener;
+
+/**
+ * Application event raised when a product row is created, updated or deleted
+ * through JPA. Consumed by the cache layer to drop cached products.
+ */
+public class ProductChangedEvent {
+
+    private final Long productId;
+    private final String sku;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public ProductChangedEvent(Long productId, String sku, ChangeType changeType) {
+        this.productId = productId;
+        this.sku = sku;
+        this.changeType = changeType;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.infrastructure.persistence.listener;
+
+import com.project.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener for products.
+ * Publishes a {@link ProductChangedEvent} for every persisted change so caches
+ * can react after the transaction commits.
+ *
+ * Instantiated by Hibernate through Spring's bean container (constructor injection).
+ */
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(ProductEntity entity) {
+        publish(entity, ProductChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(ProductEntity entity) {
+        publish(entity, ProductChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(ProductEntity entity) {
+        publish(entity, ProductChangedEvent.ChangeType.DELETED);
+    }
+
+    private void publish(ProductEntity entity, ProductChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new ProductChangedEvent(entity.getId(), entity.getSku(), changeType));
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.infrastructure.persistence.listener;
+
+/**
+ * Application event raised when a user row is created, updated or deleted
+ * through JPA. Consumed by the cache layer to drop cached users.
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final String email;
+    private final String previousEmail;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public UserChangedEvent(Long userId, String email, String previousEmail, ChangeType changeType) {
+        this.userId = userId;
+        this.email = email;
+        this.previousEmail = previousEmail;
+        this.changeType = changeType;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Email before the update, or null if it did not change.
+     */
+    public String getPreviousEmail() {
+        return previousEmail;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.infrastructure.persistence.listener;
+
+import com.project.infrastructure.persistence.entity.UserEntity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener for users.
+ * Publishes a {@link UserChangedEvent} for every persisted change so caches
+ * can react after the transaction commits.
+ *
+ * Users are cached by ID and by email: the email as loaded is remembered on
+ * the entity so an email change also reports the old email (whose cache
+ * entry is now stale).
+ *
+ * Instantiated by Hibernate through Spring's bean container (constructor injection).
+ */
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostLoad
+    public void onLoad(UserEntity entity) {
+        entity.setLoadedEmail(entity.getEmail());
+    }
+
+    @PostPersist
+    public void onPersist(UserEntity entity) {
+        entity.setLoadedEmail(entity.getEmail());
+        publish(entity, null, UserChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(UserEntity entity) {
+        String loadedEmail = entity.getLoadedEmail();
+        String previousEmail = loadedEmail != null && !loadedEmail.equals(entity.getEmail()) ? loadedEmail : null;
+        entity.setLoadedEmail(entity.getEmail());
+        publish(entity, previousEmail, UserChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(UserEntity entity) {
+        publish(entity, null, UserChangedEvent.ChangeType.DELETED);
+    }
+
+    private void publish(UserEntity entity, String previousEmail, UserChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new UserChangedEvent(entity.getId(), entity.getEmail(), previousEmail, changeType));
+    }
+}
@@ -1,13 +1,16 @@
 package com.project.infrastructure.persistence.repository;
 
 import com.project.infrastructure.persistence.entity.ApiKeyEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,11 +50,36 @@ public interface ApiKeyRepository extends JpaRepository<ApiKeyEntity, Long> {
     );
 
     /**
-     * Update last used timestamp (called on each API request).
+     * Batch update last used timestamp for many keys in one statement.
+     * Never moves last_used_at backwards.
      */
     @Modifying
-    @Query("UPDATE ApiKeyEntity a SET a.lastUsedAt = :timestamp WHERE a.keyHash = :keyHash")
-    void updateLastUsedAt(@Param("keyHash") String keyHash, @Param("timestamp") LocalDateTime timestamp);
+    @Transactional
+    @Query("UPDATE ApiKeyEntity a SET a.lastUsedAt = :timestamp WHERE a.keyHash IN :keyHashes " +
+           "AND (a.lastUsedAt IS NULL OR a.lastUsedAt < :timestamp)")
+    int updateLastUsedAtBatch(
+        @Param("keyHashes") Collection<String> keyHashes,
+        @Param("timestamp") LocalDateTime timestamp
+    );
+
+    /**
+     * Find next page of active, unexpired API keys after the given id (keyset pagination).
+     * Used for bulk cache warming; constant cost per page regardless of offset.
+     */
+    @Query("SELECT a FROM ApiKeyEntity a WHERE a.isActive = true AND " +
+           "(a.expiresAt IS NULL OR a.expiresAt > :now) AND a.id > :afterId ORDER BY a.id")
+    List<ApiKeyEntity> findActiveUnexpiredAfter(
+        @Param("now") LocalDateTime now,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * Find next page of (id, keyHash) pairs after the given id (keyset pagination).
+     * Used to build the API key Bloom filter; stable under concurrent deletes.
+     */
+    @Query("SELECT a.id, a.keyHash FROM ApiKeyEntity a WHERE a.id > :afterId ORDER BY a.id")
+    List<Object[]> findKeyHashesAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     /**
      * Check if key hash exists.
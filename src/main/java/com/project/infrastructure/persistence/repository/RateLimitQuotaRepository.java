@@ -0,0 +1,13 @@
+package com.project.infrastructure.persistence.repository;
+
+import com.project.infrastructure.persistence.entity.RateLimitQuotaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for rate limit quota operations.
+ * The whole table is small and loaded at once by the rate limiter.
+ */
+@Repository
+public interface RateLimitQuotaRepository extends JpaRepository<RateLimitQuotaEntity, Long> {
+}
@@ -0,0 +1,52 @@
+package com.project.messaging.consumer;
+
+import com.project.config.KafkaConfig;
+import com.project.infrastructure.cache.ProductCacheService;
+import com.project.messaging.producer.KafkaProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka consumer evicting local product cache entries on inventory events.
+ *
+ * Every node must see every event, so each instance joins its own consumer
+ * group, named after a stable instance id (cache.product.instance-id, default
+ * the HOSTNAME, i.e. the pod name) so restarts reuse the group instead of
+ * leaving a new one behind. A new group starts from the latest offset: past
+ * stock changes are irrelevant to a freshly started, empty cache.
+ */
+@Component
+public class ProductCacheInvalidationConsumer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCacheInvalidationConsumer.class);
+
+    private final ProductCacheService productCacheService;
+
+    public ProductCacheInvalidationConsumer(ProductCacheService productCacheService) {
+        this.productCacheService = productCacheService;
+    }
+
+    /**
+     * Drop this node's cached copy of the product whose stock changed.
+     *
+     * @param event Inventory event from Kafka
+     */
+    @KafkaListener(
+            topics = KafkaConfig.INVENTORY_EVENTS_TOPIC,
+            groupId = "product-cache-${cache.product.instance-id:${HOSTNAME:${random.uuid}}}",
+            properties = "auto.offset.reset=latest",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeInventoryEvent(KafkaProducer.InventoryEvent event) {
+        try {
+            productCacheService.evictLocal(event.getProductId(), event.getSku());
+            log.debug("Evicted cached product on inventory event: productId={}, sku={}",
+                    event.getProductId(), event.getSku());
+        } catch (Exception e) {
+            log.error("Failed to evict cached product: productId={}, error={}",
+                    event.getProductId(), e.getMessage());
+        }
+    }
+}
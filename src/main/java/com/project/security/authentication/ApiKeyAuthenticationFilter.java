@@ -2,6 +2,7 @@ package com.project.security.authentication;
 
 import com.project.domain.model.ApiKey;
 import com.project.infrastructure.cache.ApiKeyCacheService;
+import com.project.infrastructure.cache.ApiKeyUsageTracker;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,14 +10,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.codec.Hex;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -39,9 +36,13 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
     private static final String API_KEY_HEADER = "X-API-Key";
 
     private final ApiKeyCacheService apiKeyCacheService;
+    private final ApiKeyUsageTracker apiKeyUsageTracker;
 
-    public ApiKeyAuthenticationFilter(ApiKeyCacheService apiKeyCacheService) {
+    public ApiKeyAuthenticationFilter(
+            ApiKeyCacheService apiKeyCacheService,
+            ApiKeyUsageTracker apiKeyUsageTracker) {
         this.apiKeyCacheService = apiKeyCacheService;
+        this.apiKeyUsageTracker = apiKeyUsageTracker;
     }
 
     @Override
@@ -89,8 +90,8 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
             log.debug("Authenticated request with API key: {} (user: {})",
                 apiKey.getName(), apiKey.getUserId());
 
-            // Update last used timestamp asynchronously (don't block request)
-            updateLastUsedAsync(keyHash);
+            // Record last used timestamp (flushed to DB in batches, don't block request)
+            recordLastUsed(keyHash);
 
             filterChain.doFilter(request, response);
 
@@ -107,13 +108,7 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
      * Hash API key with SHA-256.
      */
     private String hashApiKey(String apiKey) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(apiKey.getBytes(StandardCharsets.UTF_8));
-            return new String(Hex.encode(hash));
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not available", e);
-        }
+        return ApiKeyHasher.sha256Hex(apiKey);
     }
 
     /**
@@ -132,14 +127,14 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Update last used timestamp asynchronously.
+     * Record last used timestamp with the write-behind tracker.
+     * In-memory only; does not invalidate the cached API key.
      */
-    private void updateLastUsedAsync(String keyHash) {
-        // TODO: Move to async executor to avoid blocking request
+    private void recordLastUsed(String keyHash) {
         try {
-            apiKeyCacheService.updateLastUsedAt(keyHash);
+            apiKeyUsageTracker.recordUsage(keyHash);
         } catch (Exception e) {
-            log.error("Failed to update last_used_at: {}", e.getMessage());
+            log.error("Failed to record last_used_at: {}", e.getMessage());
         }
     }
 
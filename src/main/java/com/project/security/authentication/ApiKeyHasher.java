@@ -0,0 +1,99 @@
+package com.project.security.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 hex hashing of API keys for the authentication hot path.
+ *
+ * Allocation profile per call:
+ * - MessageDigest and scratch buffers are reused per thread (no provider lookup)
+ * - ASCII keys are copied into the reusable input buffer (no getBytes copy)
+ * - Digest is hex-encoded directly into a pre-sized buffer; the result String
+ *   is the only allocation
+ */
+public final class ApiKeyHasher {
+
+    private static final int DIGEST_LENGTH = 32;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private ApiKeyHasher() {
+        // Utility class
+    }
+
+    /**
+     * Hash API key with SHA-256 and encode as lowercase hex.
+     *
+     * @param apiKey Plain API key
+     * @return 64-character hex digest
+     */
+    public static String sha256Hex(String apiKey) {
+        State state = STATE.get();
+        MessageDigest digest = state.digest;
+
+        int length = apiKey.length();
+        if (isAscii(apiKey, length)) {
+            byte[] input = state.input(length);
+            for (int i = 0; i < length; i++) {
+                input[i] = (byte) apiKey.charAt(i);
+            }
+            digest.update(input, 0, length);
+        } else {
+            digest.update(apiKey.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] hash = state.hash;
+        try {
+            digest.digest(hash, 0, DIGEST_LENGTH);
+        } catch (DigestException e) {
+            digest.reset();
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+
+        byte[] hex = state.hex;
+        for (int i = 0; i < DIGEST_LENGTH; i++) {
+            int b = hash[i] & 0xFF;
+            hex[i * 2] = HEX_DIGITS[b >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        // Latin-1 bytes map 1:1 onto a compact String
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean isAscii(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Per-thread digest and scratch buffers.
+     */
+    private static final class State {
+        private final MessageDigest digest;
+        private final byte[] hash = new byte[DIGEST_LENGTH];
+        private final byte[] hex = new byte[DIGEST_LENGTH * 2];
+        private byte[] input = new byte[128];
+
+        private State() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 algorithm not available", e);
+            }
+        }
+
+        private byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            return input;
+        }
+    }
+}
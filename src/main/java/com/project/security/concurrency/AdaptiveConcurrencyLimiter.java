@@ -0,0 +1,200 @@
+package com.project.security.concurrency;
+
+import com.project.domain.model.ApiKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit for request processing (gradient algorithm).
+ * Finds the concurrency the backends (servlet threads, DB pool) can sustain
+ * by watching latency, and sheds the excess early instead of letting it queue.
+ *
+ * Sampling:
+ * - Completed requests add their RTT to lock-free window accumulators
+ * - Once per sample-window (and at least min-window-samples), a single thread
+ *   drains the window and updates the limit from its average RTT
+ *
+ * Limit update per window:
+ * - Short-term RTT (fast EMA) vs. long-term RTT (slow EMA, the no-load baseline)
+ * - gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ * - newLimit = limit * gradient + sqrt(limit) (queue allowance for probing)
+ * - Smoothed, clamped to [min-limit, max-limit]; not grown while underused
+ *
+ * Priority: lower tiers may only use a fraction of the limit, so they are
+ * shed first as the limit shrinks (BASIC, then STANDARD, then PREMIUM/UNLIMITED).
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_ALPHA = 0.1;
+    private static final double LONG_RTT_ALPHA = 0.002;
+    private static final double SMOOTHING = 0.2;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final Map<ApiKey.RateLimitTier, Double> tierShares = new EnumMap<>(ApiKey.RateLimitTier.class);
+    private final Map<ApiKey.RateLimitTier, Counter> shedCounters = new EnumMap<>(ApiKey.RateLimitTier.class);
+
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    private final AtomicInteger limit;
+    private double estimatedLimit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:5}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${concurrency-limit.tier-share.basic:0.6}") double basicShare,
+            @Value("${concurrency-limit.tier-share.standard:0.8}") double standardShare,
+            @Value("${concurrency-limit.sample-window:100ms}") Duration sampleWindow,
+            @Value("${concurrency-limit.min-window-samples:10}") int minWindowSamples) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowNanos = sampleWindow.toNanos();
+        this.minWindowSamples = Math.max(1, minWindowSamples);
+        this.estimatedLimit = initialLimit;
+        this.limit = new AtomicInteger(initialLimit);
+
+        tierShares.put(ApiKey.RateLimitTier.BASIC, basicShare);
+        tierShares.put(ApiKey.RateLimitTier.STANDARD, standardShare);
+        tierShares.put(ApiKey.RateLimitTier.PREMIUM, 1.0);
+        tierShares.put(ApiKey.RateLimitTier.UNLIMITED, 1.0);
+
+        for (ApiKey.RateLimitTier tier : ApiKey.RateLimitTier.values()) {
+            shedCounters.put(tier, Counter.builder("concurrency.shed")
+                    .description("Requests rejected by the adaptive concurrency limit")
+                    .tag("tier", tier.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("concurrency.limit", limit, AtomicInteger::get)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.in_flight", inFlight, AtomicInteger::get)
+                .description("Requests currently being processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to admit a request.
+     *
+     * @param tier Tier of the requesting API key (determines its share of the limit)
+     * @return true if admitted (caller must call {@link #release(long)}), false if shed
+     */
+    public boolean tryAcquire(ApiKey.RateLimitTier tier) {
+        int allowed = Math.max(1, (int) (limit.get() * tierShares.get(tier)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                shedCounters.get(tier).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and feed its latency into the limit.
+     *
+     * @param rttNanos Request processing time
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        onSample(rttNanos, current);
+    }
+
+    /**
+     * Record one latency sample; updates the limit when the window is complete.
+     * Lock-free except for the one thread per window that recomputes the limit.
+     *
+     * @param rttNanos Request processing time
+     * @param inFlightAtSample Requests in flight when the sample completed
+     */
+    void onSample(long rttNanos, int inFlightAtSample) {
+        windowRttSum.add(rttNanos);
+        windowSamples.increment();
+        windowMaxInFlight.accumulateAndGet(inFlightAtSample, Math::max);
+
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (now - start < windowNanos || windowSamples.sum() < minWindowSamples) {
+            return;
+        }
+        // Only the thread that closes the window recomputes the limit
+        if (!windowStart.compareAndSet(start, now)) {
+            return;
+        }
+
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttSum.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(0);
+        if (samples > 0) {
+            updateLimit((double) rttSum / samples, maxInFlight);
+        }
+    }
+
+    /**
+     * Update the limit from one window's average latency.
+     *
+     * @param rttNanos Average request processing time over the window
+     * @param inFlightAtSample Peak requests in flight during the window
+     */
+    private synchronized void updateLimit(double rttNanos, int inFlightAtSample) {
+        if (longRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+
+        shortRtt += (rttNanos - shortRtt) * SHORT_RTT_ALPHA;
+        longRtt += (rttNanos - longRtt) * LONG_RTT_ALPHA;
+
+        // Latency dropped well below the baseline: let the baseline catch up
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Not using the limit; no evidence it can be raised
+        if (inFlightAtSample < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit.set((int) estimatedLimit);
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
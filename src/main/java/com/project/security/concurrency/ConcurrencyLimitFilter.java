@@ -0,0 +1,86 @@
+package com.project.security.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.security.authentication.ApiKeyAuthentication;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load shedding filter using the adaptive concurrency limit.
+ * Runs after rate limiting, so only in-quota requests take a slot.
+ *
+ * Requests over the limit for their tier get 503 Service Unavailable with
+ * Retry-After immediately, instead of queueing for a servlet thread or a
+ * database connection. Unauthenticated requests (health probes, docs) are
+ * never shed.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // Only shed authenticated API key requests
+        if (!(authentication instanceof ApiKeyAuthentication apiKeyAuth) || apiKeyAuth.getApiKey() == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limiter.tryAcquire(apiKeyAuth.getApiKey().getRateLimitTier())) {
+            log.debug("Shed request for tier {} (limit: {}, in flight: {})",
+                apiKeyAuth.getApiKey().getRateLimitTier(), limiter.getLimit(), limiter.getInFlight());
+            sendOverloadedResponse(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Send 503 Service Unavailable response.
+     */
+    private void sendOverloadedResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", "1");
+        response.setContentType("application/json");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "service_overloaded");
+        errorResponse.put("message", "Server is at capacity. Please retry shortly.");
+        errorResponse.put("retryAfter", 1);
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.security.config;
 
 import com.project.security.authentication.ApiKeyAuthenticationFilter;
+import com.project.security.concurrency.ConcurrencyLimitFilter;
 import com.project.security.ratelimit.RateLimitFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,9 +18,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * Security Chain:
  * 1. ApiKeyAuthenticationFilter - Extract and validate API key
  * 2. RateLimitFilter - Check rate limits
- * 3. Authorization - Require authentication for protected endpoints
+ * 3. ConcurrencyLimitFilter - Shed load over the adaptive concurrency limit (503)
+ * 4. Authorization - Require authentication for protected endpoints
  *
- * Public endpoints: /actuator/health, /actuator/info, /actuator/metrics, /actuator/prometheus, /swagger-ui/**, /v3/api-docs/**
+ * Public endpoints: /actuator/health, /actuator/health/** (probes), /actuator/info, /actuator/metrics, /actuator/prometheus, /actuator/cachestats, /swagger-ui/**, /v3/api-docs/**
  * Protected endpoints: All others require valid API key
  */
 @Configuration
@@ -28,12 +30,15 @@ public class SecurityConfig {
 
     private final ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
     private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
     public SecurityConfig(
             ApiKeyAuthenticationFilter apiKeyAuthenticationFilter,
-            RateLimitFilter rateLimitFilter) {
+            RateLimitFilter rateLimitFilter,
+            ConcurrencyLimitFilter concurrencyLimitFilter) {
         this.apiKeyAuthenticationFilter = apiKeyAuthenticationFilter;
         this.rateLimitFilter = rateLimitFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
     }
 
     @Bean
@@ -52,10 +57,12 @@ public class SecurityConfig {
                 // Public actuator endpoints (for monitoring and health checks)
                 .requestMatchers(
                     "/actuator/health",
+                    "/actuator/health/**",
                     "/actuator/info",
                     "/actuator/metrics",
                     "/actuator/metrics/**",
-                    "/actuator/prometheus"
+                    "/actuator/prometheus",
+                    "/actuator/cachestats"
                 ).permitAll()
 
                 // Swagger UI and OpenAPI endpoints (public for documentation access)
@@ -75,7 +82,10 @@ public class SecurityConfig {
             .addFilterBefore(apiKeyAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
             // 2. Rate limiting filter (after authentication)
-            .addFilterAfter(rateLimitFilter, ApiKeyAuthenticationFilter.class);
+            .addFilterAfter(rateLimitFilter, ApiKeyAuthenticationFilter.class)
+
+            // 3. Load shedding (after rate limiting)
+            .addFilterAfter(concurrencyLimitFilter, RateLimitFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,146 @@
+package com.project.security.ratelimit;
+
+import com.project.domain.model.ApiKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-API-key cap on simultaneous requests, by tier.
+ * Rate limits bound requests per minute; this bounds requests in progress,
+ * so one key running slow queries cannot pin every DB connection.
+ *
+ * Enforcement:
+ * - Node-local: lock-free counter per key (CAS), counters retired at zero
+ * - Distributed (optional): lease-based Redis semaphore per key, so the cap
+ *   holds across the cluster; Redis failures fall back to the local cap
+ */
+@Component
+public class InFlightLimiter {
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final Map<ApiKey.RateLimitTier, Integer> caps = new EnumMap<>(ApiKey.RateLimitTier.class);
+    private final boolean distributed;
+    private final Duration lease;
+    private final Map<String, AtomicInteger> counters = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong permitSequence = new AtomicLong();
+
+    public InFlightLimiter(
+            RedisRateLimiter redisRateLimiter,
+            @Value("${rate-limit.in-flight.basic:2}") int basicCap,
+            @Value("${rate-limit.in-flight.standard:5}") int standardCap,
+            @Value("${rate-limit.in-flight.premium:10}") int premiumCap,
+            @Value("${rate-limit.in-flight.unlimited:10}") int unlimitedCap,
+            @Value("${rate-limit.in-flight.distributed:false}") boolean distributed,
+            @Value("${rate-limit.in-flight.lease:30s}") Duration lease) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.distributed = distributed;
+        this.lease = lease;
+        caps.put(ApiKey.RateLimitTier.BASIC, basicCap);
+        caps.put(ApiKey.RateLimitTier.STANDARD, standardCap);
+        caps.put(ApiKey.RateLimitTier.PREMIUM, premiumCap);
+        caps.put(ApiKey.RateLimitTier.UNLIMITED, unlimitedCap);
+    }
+
+    /**
+     * Try to start a request for the key.
+     *
+     * @return Permit to release when the request completes, or null if the key is at its cap
+     */
+    public Permit tryAcquire(ApiKey apiKey) {
+        String keyHash = apiKey.getKeyHash();
+        int cap = getCap(apiKey.getRateLimitTier());
+
+        if (!acquireLocal(keyHash, cap)) {
+            return null;
+        }
+
+        if (!distributed) {
+            return new Permit(keyHash, null);
+        }
+
+        String permitId = nodeId + ":" + permitSequence.incrementAndGet();
+        Boolean acquired = redisRateLimiter.acquireSemaphore(keyHash, cap, lease, permitId);
+        if (Boolean.FALSE.equals(acquired)) {
+            releaseLocal(keyHash);
+            return null;
+        }
+        // Redis unavailable: local cap only
+        return new Permit(keyHash, acquired == null ? null : permitId);
+    }
+
+    /**
+     * Release permit of a completed request.
+     */
+    public void release(Permit permit) {
+        releaseLocal(permit.keyHash);
+        if (permit.permitId != null) {
+            redisRateLimiter.releaseSemaphore(permit.keyHash, permit.permitId);
+        }
+    }
+
+    /**
+     * Get in-flight cap for tier.
+     */
+    public int getCap(ApiKey.RateLimitTier tier) {
+        return caps.get(tier);
+    }
+
+    /**
+     * Requests in flight for key on this node.
+     */
+    public int getInFlight(String keyHash) {
+        AtomicInteger counter = counters.get(keyHash);
+        return counter == null ? 0 : Math.max(0, counter.get());
+    }
+
+    private boolean acquireLocal(String keyHash, int cap) {
+        while (true) {
+            AtomicInteger counter = counters.computeIfAbsent(keyHash, k -> new AtomicInteger());
+            int current = counter.get();
+            if (current < 0) {
+                // Retired by a concurrent release, about to be removed
+                Thread.onSpinWait();
+                continue;
+            }
+            if (current >= cap) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void releaseLocal(String keyHash) {
+        AtomicInteger counter = counters.get(keyHash);
+        if (counter == null) {
+            return;
+        }
+        // Retire idle counters so the map only holds keys with requests in flight
+        if (counter.decrementAndGet() == 0 && counter.compareAndSet(0, -1)) {
+            counters.remove(keyHash, counter);
+        }
+    }
+
+    /**
+     * Held for the duration of one request.
+     */
+    public static final class Permit {
+        private final String keyHash;
+        private final String permitId;
+
+        private Permit(String keyHash, String permitId) {
+            this.keyHash = keyHash;
+            this.permitId = permitId;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.project.security.ratelimit;
+
+import com.project.domain.model.ApiKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node-local token bucket rate limiter for high-volume tiers.
+ * Removes Redis from the per-request path; limits are enforced cluster-wide
+ * approximately by reconciling consumption with Redis in the background.
+ *
+ * Local bucket:
+ * - Lock-free, one AtomicLong per key holding the bucket in GCRA form
+ *   (theoretical arrival time): capacity = limit, refill = limit per window
+ * - No allocation per request once the key's bucket exists
+ *
+ * Reconciliation (every sync interval, one Redis round trip per batch of keys):
+ * - Only buckets used since the last sync are sent; each one's consumption
+ *   is charged to a shared bucket
+ * - The shared bucket's debt is applied to the local bucket, so every node
+ *   sees what the whole cluster has consumed
+ * - Keys are sent in batches of rate-limit.local.sync-batch-size, so no single
+ *   script call runs long enough to trip the Redis circuit breaker
+ * - An idle bucket picks up other nodes' consumption at its next sync after use
+ *
+ * Overshoot is bounded by roughly (nodes - 1) x per-node rate x sync interval,
+ * plus one burst per node for a key's first requests. If Redis is unavailable,
+ * each node enforces the full limit on its own until sync recovers.
+ */
+@Component
+public class LocalTokenBucketLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalTokenBucketLimiter.class);
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final Set<ApiKey.RateLimitTier> tiers;
+    private final int syncBatchSize;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public LocalTokenBucketLimiter(
+            RedisRateLimiter redisRateLimiter,
+            @Value("${rate-limit.local.tiers:PREMIUM}") ApiKey.RateLimitTier[] tiers,
+            @Value("${rate-limit.local.sync-batch-size:500}") int syncBatchSize) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.syncBatchSize = Math.max(1, syncBatchSize);
+        this.tiers = EnumSet.noneOf(ApiKey.RateLimitTier.class);
+        for (ApiKey.RateLimitTier tier : tiers) {
+            if (tier != null) {
+                this.tiers.add(tier);
+            }
+        }
+    }
+
+    /**
+     * Check if tier is limited locally instead of per request in Redis.
+     */
+    public boolean isEnabledFor(ApiKey.RateLimitTier tier) {
+        return tiers.contains(tier);
+    }
+
+    /**
+     * Take tokens from the bucket's local state.
+     *
+     * @param bucketId Bucket identifier (API key hash, optionally with route group)
+     * @param limit Tokens per window (bucket capacity)
+     * @param window Window length
+     * @param cost Tokens charged for this request
+     * @return Rate limit decision (never null)
+     */
+    public RateLimitService.RateLimitResult tryAcquire(String bucketId, int limit, Duration window, int cost) {
+        Bucket bucket = buckets.computeIfAbsent(bucketId, k -> new Bucket(limit, window));
+        bucket.configure(limit, window);
+
+        long windowNanos = bucket.windowNanos;
+        long intervalNanos = windowNanos / limit;
+
+        while (true) {
+            long now = System.nanoTime();
+            long tat = bucket.tat.get();
+            long next = Math.max(tat, now) + intervalNanos * cost;
+            long debt = next - now;
+
+            if (debt > windowNanos) {
+                return new RateLimitService.RateLimitResult(false, 0, toSeconds(debt - windowNanos));
+            }
+
+            if (bucket.tat.compareAndSet(tat, next)) {
+                bucket.unsynced.add(cost);
+                bucket.lastUsed = now;
+                int remaining = (int) ((windowNanos - debt) / intervalNanos);
+                return new RateLimitService.RateLimitResult(true, remaining, toSeconds(debt));
+            }
+        }
+    }
+
+    /**
+     * Reconcile local consumption with the cluster-wide buckets in Redis.
+     * Buckets unused since the last sync are skipped; buckets unused for a
+     * full window are dropped.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.local.sync-interval-ms:500}")
+    public void reconcile() {
+        if (buckets.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        List<Bucket> synced = new ArrayList<>();
+        List<RedisRateLimiter.BucketUsage> usages = new ArrayList<>();
+
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            long used = bucket.unsynced.sumThenReset();
+
+            if (used == 0) {
+                if (now - bucket.lastUsed > bucket.windowNanos) {
+                    buckets.remove(entry.getKey(), bucket);
+                }
+                continue;
+            }
+
+            synced.add(bucket);
+            usages.add(new RedisRateLimiter.BucketUsage(
+                    entry.getKey(), used, bucket.limit, Duration.ofNanos(bucket.windowNanos)));
+        }
+
+        if (usages.isEmpty()) {
+            return;
+        }
+
+        int failed = 0;
+        for (int from = 0; from < usages.size(); from += syncBatchSize) {
+            int to = Math.min(from + syncBatchSize, usages.size());
+            List<RedisRateLimiter.BucketUsage> batch = usages.subList(from, to);
+
+            long[] debts = redisRateLimiter.syncTokenBuckets(batch);
+            for (int i = from; i < to; i++) {
+                Bucket bucket = synced.get(i);
+                if (debts == null) {
+                    // Keep consumption for the next attempt; bucket stays node-local meanwhile
+                    bucket.unsynced.add(usages.get(i).getConsumed());
+                } else {
+                    bucket.applyClusterDebt(debts[i - from]);
+                }
+            }
+            if (debts == null) {
+                failed += batch.size();
+            }
+        }
+
+        if (failed > 0) {
+            log.warn("Token bucket sync failed, {} of {} keys limited locally only", failed, usages.size());
+        } else {
+            log.debug("Synced {} local token buckets", usages.size());
+        }
+    }
+
+    /**
+     * Number of keys with a local bucket.
+     */
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+
+    /**
+     * Local bucket for one key, in GCRA form.
+     */
+    private static final class Bucket {
+        private final AtomicLong tat = new AtomicLong(System.nanoTime());
+        private final LongAdder unsynced = new LongAdder();
+        private volatile int limit;
+        private volatile long windowNanos;
+        private volatile long lastUsed = System.nanoTime();
+
+        private Bucket(int limit, Duration window) {
+            configure(limit, window);
+        }
+
+        private void configure(int limit, Duration window) {
+            this.limit = limit;
+            this.windowNanos = window.toNanos();
+        }
+
+        /**
+         * Align bucket with the cluster: cluster debt plus local consumption
+         * not yet reported.
+         */
+        private void applyClusterDebt(long debtMillis) {
+            long pending = unsynced.sum() * (windowNanos / limit);
+            tat.set(System.nanoTime() + debtMillis * 1_000_000L + pending);
+        }
+    }
+}
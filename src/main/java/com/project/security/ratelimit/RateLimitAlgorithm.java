@@ -0,0 +1,38 @@
+package com.project.security.ratelimit;
+
+/**
+ * Rate limiting algorithms, selectable per tier.
+ * Each is a single atomic Lua script call per request.
+ *
+ * - FIXED_WINDOW: Counter reset every window. Cheapest, but allows up to 2x
+ *   the limit in bursts across a window boundary
+ * - SLIDING_WINDOW: Weighted current + previous window counters. Smooths the
+ *   boundary burst with O(1) state per key
+ * - GCRA: Generic cell rate algorithm (leaky bucket variant). Spaces requests
+ *   evenly while still allowing an initial burst up to the limit
+ */
+public enum RateLimitAlgorithm {
+
+    FIXED_WINDOW("fw", "scripts/ratelimit/fixed_window.lua"),
+    SLIDING_WINDOW("sw", "scripts/ratelimit/sliding_window.lua"),
+    GCRA("gcra", "scripts/ratelimit/gcra.lua");
+
+    private final String keySegment;
+    private final String scriptPath;
+
+    RateLimitAlgorithm(String keySegment, String scriptPath) {
+        this.keySegment = keySegment;
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Key segment separating state of different algorithms (different Redis types).
+     */
+    public String getKeySegment() {
+        return keySegment;
+    }
+
+    public String getScriptPath() {
+        return scriptPath;
+    }
+}
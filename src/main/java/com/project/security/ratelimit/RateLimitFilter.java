@@ -20,11 +20,14 @@ import java.util.Map;
 
 /**
  * Rate limiting filter using Redis-backed token bucket.
- * Runs after authentication filter.
+ * Runs after authentication filter. Also caps simultaneous requests per key
+ * ({@link InFlightLimiter}); that cap is checked first, so requests it rejects
+ * are not charged against the rate limit.
  *
  * Response headers:
  * - X-RateLimit-Limit: Maximum requests per window
- * - X-RateLimit-Remaining: Remaining requests in current window
+ * - X-RateLimit-Remaining: Remaining units in current window (requests cost
+ *   1 unit unless their route is configured otherwise)
  * - X-RateLimit-Reset: Seconds until window reset
  */
 @Component
@@ -33,10 +36,21 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
 
     private final RateLimitService rateLimitService;
+    private final RouteCostResolver routeCostResolver;
+    private final InFlightLimiter inFlightLimiter;
+    private final RateLimitQuotas quotas;
     private final ObjectMapper objectMapper;
 
-    public RateLimitFilter(RateLimitService rateLimitService, ObjectMapper objectMapper) {
+    public RateLimitFilter(
+            RateLimitService rateLimitService,
+            RouteCostResolver routeCostResolver,
+            InFlightLimiter inFlightLimiter,
+            RateLimitQuotas quotas,
+            ObjectMapper objectMapper) {
         this.rateLimitService = rateLimitService;
+        this.routeCostResolver = routeCostResolver;
+        this.inFlightLimiter = inFlightLimiter;
+        this.quotas = quotas;
         this.objectMapper = objectMapper;
     }
 
@@ -63,20 +77,35 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Check rate limit
-        RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
-
-        // Add rate limit headers
-        addRateLimitHeaders(response, result, apiKey);
-
-        // If rate limit exceeded, return 429 Too Many Requests
-        if (!result.isAllowed()) {
-            sendRateLimitExceededResponse(response, result);
+        // Cap simultaneous requests per key (before charging quota, so a
+        // request rejected here costs no rate limit units)
+        InFlightLimiter.Permit permit = inFlightLimiter.tryAcquire(apiKey);
+        if (permit == null) {
+            log.warn("In-flight limit reached for API key: {} (tier: {}, cap: {})",
+                apiKey.getName(), apiKey.getRateLimitTier(), inFlightLimiter.getCap(apiKey.getRateLimitTier()));
+            sendConcurrencyLimitExceededResponse(response, apiKey);
             return;
         }
 
-        // Rate limit OK, continue with request
-        filterChain.doFilter(request, response);
+        try {
+            // Check rate limit, charging the route's cost
+            RouteCostResolver.RouteCost route = routeCostResolver.resolve(request);
+            RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey, route);
+
+            // Add rate limit headers
+            addRateLimitHeaders(response, result, apiKey);
+
+            // If rate limit exceeded, return 429 Too Many Requests
+            if (!result.isAllowed()) {
+                sendRateLimitExceededResponse(response, result);
+                return;
+            }
+
+            // Rate limit OK, continue with request
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlightLimiter.release(permit);
+        }
     }
 
     /**
@@ -87,7 +116,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
             RateLimitService.RateLimitResult result,
             ApiKey apiKey) {
 
-        int limit = getRateLimitForTier(apiKey.getRateLimitTier());
+        int limit = quotas.getLimit(apiKey);
 
         response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
         response.setHeader("X-RateLimit-Remaining", String.valueOf(result.getRemaining()));
@@ -113,14 +142,21 @@ public class RateLimitFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Get rate limit for tier.
+     * Send 429 Too Many Requests response for too many simultaneous requests.
      */
-    private int getRateLimitForTier(ApiKey.RateLimitTier tier) {
-        return switch (tier) {
-            case BASIC -> 60;
-            case STANDARD -> 300;
-            case PREMIUM -> 1000;
-            case UNLIMITED -> Integer.MAX_VALUE;
-        };
+    private void sendConcurrencyLimitExceededResponse(
+            HttpServletResponse response,
+            ApiKey apiKey) throws IOException {
+
+        response.setStatus(429); // Too Many Requests
+        response.setHeader("Retry-After", "1");
+        response.setContentType("application/json");
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "concurrency_limit_exceeded");
+        errorResponse.put("message", "Too many simultaneous requests for this API key.");
+        errorResponse.put("maxInFlight", inFlightLimiter.getCap(apiKey.getRateLimitTier()));
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
     }
 }
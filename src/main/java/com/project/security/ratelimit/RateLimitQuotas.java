@@ -0,0 +1,164 @@
+package com.project.security.ratelimit;
+
+import com.project.domain.model.ApiKey;
+import com.project.infrastructure.persistence.entity.RateLimitQuotaEntity;
+import com.project.infrastructure.persistence.repository.RateLimitQuotaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rate limit quotas (requests per minute), loaded from the rate_limit_quotas table.
+ * Single source of truth for limits used by {@link RateLimitService} and {@link RateLimitFilter}.
+ *
+ * Hot path: one volatile read of an immutable {@link QuotaTable}, then a map lookup.
+ * No locks, no I/O.
+ *
+ * Reload triggers:
+ * - Application startup
+ * - Periodic poll (rate-limit.quotas.reload-interval-ms): the only change
+ *   mechanism. Quotas are edited directly in the table, so every node picks
+ *   up a change within one interval; the table is a handful of rows.
+ *
+ * Quotas below the highest route cost are logged on load: such routes are
+ * charged the whole quota (see {@link RateLimitService}).
+ *
+ * A failed reload keeps the previous table. Until the first load completes the
+ * built-in tier defaults apply (BASIC 60, STANDARD 300, PREMIUM 1000, UNLIMITED unlimited).
+ */
+@Component
+public class RateLimitQuotas {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitQuotas.class);
+
+    /** Limit meaning "not rate limited". */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final RateLimitQuotaRepository quotaRepository;
+    private final RouteCostResolver routeCostResolver;
+
+    private volatile QuotaTable table = QuotaTable.defaults();
+
+    public RateLimitQuotas(
+            RateLimitQuotaRepository quotaRepository,
+            RouteCostResolver routeCostResolver) {
+        this.quotaRepository = quotaRepository;
+        this.routeCostResolver = routeCostResolver;
+    }
+
+    /**
+     * Get requests-per-minute limit for key: key override, else tier quota.
+     *
+     * @return Limit, or {@link #UNLIMITED}
+     */
+    public int getLimit(ApiKey apiKey) {
+        return table.getLimit(apiKey.getKeyHash(), apiKey.getRateLimitTier());
+    }
+
+    /**
+     * Load quotas on startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Rebuild the quota table from the database and swap it in.
+     * Logs only when the limits differ from the current table.
+     */
+    @Scheduled(
+        initialDelayString = "${rate-limit.quotas.reload-interval-ms:15000}",
+        fixedDelayString = "${rate-limit.quotas.reload-interval-ms:15000}"
+    )
+    public void reload() {
+        try {
+            QuotaTable fresh = QuotaTable.from(quotaRepository.findAll());
+            QuotaTable previous = table;
+            table = fresh;
+            if (fresh.sameLimits(previous)) {
+                return;
+            }
+            log.info("Loaded rate limit quotas: {} tiers, {} key overrides",
+                fresh.tierLimits.size(), fresh.keyLimits.size());
+            warnBelowRouteCost(fresh);
+        } catch (Exception e) {
+            log.error("Failed to load rate limit quotas, keeping previous: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Log quotas too small for the most expensive route.
+     */
+    private void warnBelowRouteCost(QuotaTable quotaTable) {
+        int maxCost = routeCostResolver.getMaxCost();
+        quotaTable.tierLimits.forEach((tier, limit) -> {
+            if (limit < maxCost) {
+                log.warn("Rate limit quota for tier {} ({}/min) is below the highest route cost ({}); "
+                        + "such routes are charged the whole quota", tier, limit, maxCost);
+            }
+        });
+        quotaTable.keyLimits.forEach((keyHash, limit) -> {
+            if (limit < maxCost) {
+                log.warn("Rate limit quota for key {} ({}/min) is below the highest route cost ({}); "
+                        + "such routes are charged the whole quota", keyHash, limit, maxCost);
+            }
+        });
+    }
+
+    /**
+     * Immutable snapshot of all quotas.
+     */
+    static final class QuotaTable {
+        private final Map<ApiKey.RateLimitTier, Integer> tierLimits;
+        private final Map<String, Integer> keyLimits;
+
+        private QuotaTable(Map<ApiKey.RateLimitTier, Integer> tierLimits, Map<String, Integer> keyLimits) {
+            this.tierLimits = tierLimits;
+            this.keyLimits = keyLimits;
+        }
+
+        static QuotaTable defaults() {
+            Map<ApiKey.RateLimitTier, Integer> tierLimits = new EnumMap<>(ApiKey.RateLimitTier.class);
+            tierLimits.put(ApiKey.RateLimitTier.BASIC, 60);
+            tierLimits.put(ApiKey.RateLimitTier.STANDARD, 300);
+            tierLimits.put(ApiKey.RateLimitTier.PREMIUM, 1000);
+            return new QuotaTable(tierLimits, Map.of());
+        }
+
+        static QuotaTable from(Iterable<RateLimitQuotaEntity> quotas) {
+            Map<ApiKey.RateLimitTier, Integer> tierLimits = new EnumMap<>(ApiKey.RateLimitTier.class);
+            Map<String, Integer> keyLimits = new HashMap<>();
+            for (RateLimitQuotaEntity quota : quotas) {
+                if (quota.getKeyHash() != null) {
+                    keyLimits.put(quota.getKeyHash(), quota.getRequestsPerMinute());
+                } else if (quota.getTier() != null) {
+                    tierLimits.put(ApiKey.RateLimitTier.valueOf(quota.getTier().name()), quota.getRequestsPerMinute());
+                }
+            }
+            return new QuotaTable(tierLimits, Map.copyOf(keyLimits));
+        }
+
+        boolean sameLimits(QuotaTable other) {
+            return tierLimits.equals(other.tierLimits) && keyLimits.equals(other.keyLimits);
+        }
+
+        int getLimit(String keyHash, ApiKey.RateLimitTier tier) {
+            if (!keyLimits.isEmpty()) {
+                Integer keyLimit = keyLimits.get(keyHash);
+                if (keyLimit != null) {
+                    return keyLimit;
+                }
+            }
+            Integer tierLimit = tierLimits.get(tier);
+            return tierLimit != null ? tierLimit : UNLIMITED;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-route rate limit cost configuration (rate-limit.routes).
+ *
+ * Example:
+ *   rate-limit:
+ *     routes:
+ *       - pattern: /api/products/search
+ *         cost: 10
+ *         group: search
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitRouteProperties {
+
+    private List<Route> routes = new ArrayList<>();
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Cost rule for requests matching a path pattern.
+     */
+    public static class Route {
+        private String pattern;
+        private String method;
+        private int cost = 1;
+        private String group;
+
+        /**
+         * Path pattern, e.g. /api/products/search or /api/orders/**
+         */
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        /**
+         * HTTP method to match, or null for any method.
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        /**
+         * Units charged per request (default 1).
+         */
+        public int getCost() {
+            return cost;
+        }
+
+        public void setCost(int cost) {
+            this.cost = cost;
+        }
+
+        /**
+         * Separate bucket name for this route, or null to share the key's default bucket.
+         */
+        public String getGroup() {
+            return group;
+        }
+
+        public void setGroup(String group) {
+            this.group = group;
+        }
+    }
+}
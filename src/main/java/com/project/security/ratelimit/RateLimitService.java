@@ -1,25 +1,32 @@
 package com.project.security.ratelimit;
 
 import com.project.domain.model.ApiKey;
-import com.project.infrastructure.cache.CacheKeyGenerator;
-import com.project.infrastructure.cache.CacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.time.Instant;
 
 /**
  * Rate limiting service using Redis token bucket algorithm.
  *
- * Rate Limit Tiers:
+ * Rate Limit Tiers (defaults; live values come from {@link RateLimitQuotas}):
  * - BASIC: 60 requests/minute
  * - STANDARD: 300 requests/minute
  * - PREMIUM: 1000 requests/minute
  * - UNLIMITED: No rate limit
+ * Individual keys can be given their own quota, overriding the tier.
  *
- * Algorithm: Fixed window counter with Redis atomic increment.
+ * Algorithm: Selectable per tier (see {@link RateLimitAlgorithm}), default
+ * sliding window for BASIC/STANDARD and GCRA for PREMIUM. Each check is one
+ * atomic Lua script call; reset times are computed from the Redis clock.
+ * High-volume tiers (default PREMIUM) can instead use a node-local token
+ * bucket reconciled with Redis in the background ({@link LocalTokenBucketLimiter}).
+ * The same local bucket is the fallback when Redis is down or its circuit is open.
+ *
+ * Limits are in units: each request is charged its route's cost (default 1,
+ * see {@link RouteCostResolver}), optionally to a separate per-route-group bucket.
  */
 @Service
 public class RateLimitService {
@@ -27,76 +34,100 @@ public class RateLimitService {
     private static final Logger log = LoggerFactory.getLogger(RateLimitService.class);
     private static final Duration WINDOW_DURATION = Duration.ofMinutes(1);
 
-    private final CacheService cacheService;
-
-    public RateLimitService(CacheService cacheService) {
-        this.cacheService = cacheService;
+    private final RedisRateLimiter redisRateLimiter;
+    private final LocalTokenBucketLimiter localLimiter;
+    private final RateLimitQuotas quotas;
+    private final RateLimitAlgorithm basicAlgorithm;
+    private final RateLimitAlgorithm standardAlgorithm;
+    private final RateLimitAlgorithm premiumAlgorithm;
+
+    public RateLimitService(
+            RedisRateLimiter redisRateLimiter,
+            LocalTokenBucketLimiter localLimiter,
+            RateLimitQuotas quotas,
+            @Value("${rate-limit.algorithm.basic:SLIDING_WINDOW}") RateLimitAlgorithm basicAlgorithm,
+            @Value("${rate-limit.algorithm.standard:SLIDING_WINDOW}") RateLimitAlgorithm standardAlgorithm,
+            @Value("${rate-limit.algorithm.premium:GCRA}") RateLimitAlgorithm premiumAlgorithm) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.localLimiter = localLimiter;
+        this.quotas = quotas;
+        this.basicAlgorithm = basicAlgorithm;
+        this.standardAlgorithm = standardAlgorithm;
+        this.premiumAlgorithm = premiumAlgorithm;
     }
 
     /**
-     * Check if request is allowed under rate limit.
+     * Check if request is allowed under rate limit (1 unit, default bucket).
      *
      * @param apiKey API key with rate limit tier
      * @return RateLimitResult with allowed status and remaining quota
      */
     public RateLimitResult checkRateLimit(ApiKey apiKey) {
-        // UNLIMITED tier always allowed
-        if (apiKey.getRateLimitTier() == ApiKey.RateLimitTier.UNLIMITED) {
-            return new RateLimitResult(true, Integer.MAX_VALUE, WINDOW_DURATION.getSeconds());
-        }
-
-        // Get rate limit for tier
-        int limit = getRateLimitForTier(apiKey.getRateLimitTier());
+        return checkRateLimit(apiKey, RouteCostResolver.RouteCost.DEFAULT);
+    }
 
-        // Get current window start (aligned to minute boundary)
-        long windowStart = getCurrentWindowStart();
+    /**
+     * Check if request is allowed under rate limit, charging the route's cost
+     * to the route's bucket (the key's default bucket unless the route has a group).
+     *
+     * @param apiKey API key with rate limit tier
+     * @param route Cost and bucket of the requested route
+     * @return RateLimitResult with allowed status and remaining quota (in units)
+     */
+    public RateLimitResult checkRateLimit(ApiKey apiKey, RouteCostResolver.RouteCost route) {
+        // Get current quota for key (tier default or key override)
+        int limit = quotas.getLimit(apiKey);
 
-        // Generate cache key for this window
-        String cacheKey = CacheKeyGenerator.rateLimitWindow(apiKey.getKeyHash(), windowStart);
+        // No quota (e.g. UNLIMITED tier): always allowed
+        if (limit == RateLimitQuotas.UNLIMITED) {
+            return new RateLimitResult(true, Integer.MAX_VALUE, WINDOW_DURATION.getSeconds());
+        }
+        // A route costing more than the whole quota could never be allowed:
+        // charge it the full quota instead (one such request per window)
+        int cost = Math.min(route.getCost(), limit);
+        String bucketId = route.getGroup() == null
+                ? apiKey.getKeyHash()
+                : apiKey.getKeyHash() + ":" + route.getGroup();
+
+        // High-volume tiers: node-local bucket, no Redis round trip
+        if (localLimiter.isEnabledFor(apiKey.getRateLimitTier())) {
+            RateLimitResult result = localLimiter.tryAcquire(bucketId, limit, WINDOW_DURATION, cost);
+            if (!result.isAllowed()) {
+                log.warn("Rate limit exceeded for API key: {} (tier: {}, local bucket, limit: {})",
+                    apiKey.getName(), apiKey.getRateLimitTier(), limit);
+            }
+            return result;
+        }
 
-        // Atomic increment with expiry
-        Long currentCount = cacheService.incrementWithExpiry(cacheKey, WINDOW_DURATION);
+        // Single atomic script call for the tier's algorithm
+        RateLimitAlgorithm algorithm = getAlgorithmForTier(apiKey.getRateLimitTier());
+        RateLimitResult result = redisRateLimiter.check(algorithm, bucketId, limit, WINDOW_DURATION, cost);
 
-        if (currentCount == null) {
-            log.error("Failed to increment rate limit counter for key: {}", apiKey.getKeyHash());
-            // Allow request on Redis failure (fail open)
-            return new RateLimitResult(true, limit, WINDOW_DURATION.getSeconds());
+        if (result == null) {
+            // Redis failed or circuit open: enforce the limit on this node only
+            log.debug("Redis rate limit unavailable, using local bucket for key: {}", apiKey.getKeyHash());
+            result = localLimiter.tryAcquire(bucketId, limit, WINDOW_DURATION, cost);
         }
 
-        // Check if limit exceeded
-        boolean allowed = currentCount <= limit;
-        int remaining = Math.max(0, limit - currentCount.intValue());
-        long resetSeconds = WINDOW_DURATION.getSeconds() - (Instant.now().getEpochSecond() % 60);
-
-        if (!allowed) {
-            log.warn("Rate limit exceeded for API key: {} (tier: {}, count: {}/{})",
-                apiKey.getName(), apiKey.getRateLimitTier(), currentCount, limit);
+        if (!result.isAllowed()) {
+            log.warn("Rate limit exceeded for API key: {} (tier: {}, algorithm: {}, limit: {})",
+                apiKey.getName(), apiKey.getRateLimitTier(), algorithm, limit);
         }
 
-        return new RateLimitResult(allowed, remaining, resetSeconds);
+        return result;
     }
 
     /**
-     * Get rate limit for tier.
+     * Get rate limiting algorithm for tier.
      */
-    private int getRateLimitForTier(ApiKey.RateLimitTier tier) {
+    private RateLimitAlgorithm getAlgorithmForTier(ApiKey.RateLimitTier tier) {
         return switch (tier) {
-            case BASIC -> 60;
-            case STANDARD -> 300;
-            case PREMIUM -> 1000;
-            case UNLIMITED -> Integer.MAX_VALUE;
+            case BASIC -> basicAlgorithm;
+            case STANDARD -> standardAlgorithm;
+            case PREMIUM, UNLIMITED -> premiumAlgorithm;
         };
     }
 
-    /**
-     * Get current window start timestamp (aligned to minute boundary).
-     * Returns Unix timestamp in seconds.
-     */
-    private long getCurrentWindowStart() {
-        long nowSeconds = Instant.now().getEpochSecond();
-        return nowSeconds - (nowSeconds % 60);
-    }
-
     /**
      * Rate limit check result.
      */
@@ -0,0 +1,225 @@
+package com.project.security.ratelimit;
+
+import com.project.infrastructure.cache.CacheKeyGenerator;
+import com.project.infrastructure.cache.RedisCircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes rate limit algorithms as Redis Lua scripts.
+ * Each check is a single atomic round trip: no partial state (e.g. a counter
+ * without TTL) can be left behind, and time is taken from Redis itself.
+ *
+ * Scripts are loaded into the Redis script cache on startup and invoked by
+ * SHA (EVALSHA); if Redis has lost them (restart, SCRIPT FLUSH) the call
+ * falls back to EVAL once and the script is cached again.
+ *
+ * Calls go through {@link RedisCircuitBreaker}; a failed or rejected call
+ * returns null so the caller can fall back to a node-local limiter.
+ *
+ * Every algorithm script returns {allowed (1/0), remaining, reset_ms}.
+ * Node-local token buckets are reconciled with a separate batch script, and
+ * per-key in-flight limits use a lease-based semaphore script.
+ */
+@Component
+public class RedisRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimiter.class);
+
+    @SuppressWarnings("rawtypes")
+    private final Map<RateLimitAlgorithm, RedisScript<List>> scripts = new EnumMap<>(RateLimitAlgorithm.class);
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> tokenBucketSync =
+            RedisScript.of(new ClassPathResource("scripts/ratelimit/token_bucket_sync.lua"), List.class);
+    private final RedisScript<Long> semaphoreAcquire =
+            RedisScript.of(new ClassPathResource("scripts/ratelimit/semaphore_acquire.lua"), Long.class);
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            scripts.put(algorithm, RedisScript.of(new ClassPathResource(algorithm.getScriptPath()), List.class));
+        }
+    }
+
+    /**
+     * Load scripts into Redis so the first requests can use EVALSHA.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                scripts.values().forEach(script -> connection.scriptingCommands()
+                        .scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+                connection.scriptingCommands()
+                        .scriptLoad(tokenBucketSync.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                connection.scriptingCommands()
+                        .scriptLoad(semaphoreAcquire.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+            log.info("Loaded {} rate limit scripts into Redis", scripts.size() + 2);
+        } catch (Exception e) {
+            log.warn("Failed to preload rate limit scripts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Charge a request against a limit with the given algorithm.
+     *
+     * @param algorithm Rate limiting algorithm
+     * @param bucketId Bucket identifier (API key hash, optionally with route group)
+     * @param limit Units allowed per window
+     * @param window Window length
+     * @param cost Units charged for this request
+     * @return Rate limit decision, or null on Redis failure
+     */
+    public RateLimitService.RateLimitResult check(
+            RateLimitAlgorithm algorithm, String bucketId, int limit, Duration window, int cost) {
+        String key = CacheKeyGenerator.rateLimit(algorithm.getKeySegment(), bucketId);
+        try {
+            List<?> result = circuitBreaker.execute(() -> redisTemplate.execute(scripts.get(algorithm), List.of(key),
+                    String.valueOf(limit), String.valueOf(window.toMillis()), String.valueOf(cost)));
+            if (result == null || result.size() < 3) {
+                return null;
+            }
+
+            boolean allowed = ((Number) result.get(0)).longValue() == 1;
+            int remaining = (int) ((Number) result.get(1)).longValue();
+            long resetMillis = ((Number) result.get(2)).longValue();
+            return new RateLimitService.RateLimitResult(allowed, remaining, (resetMillis + 999) / 1000);
+        } catch (Exception e) {
+            if (RedisCircuitBreaker.isRejected(e)) {
+                log.debug("Rate limit script skipped for key {}: circuit open", key);
+            } else {
+                log.error("Rate limit script error for key {}: {}", key, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Report node-local token bucket consumption and fetch cluster-wide debt,
+     * for a batch of buckets in one round trip. Callers bound the batch size:
+     * the script runs for every key in one call.
+     *
+     * @param usages Consumption per bucket since the last sync
+     * @return Cluster-wide debt in milliseconds per bucket (same order), or null on Redis failure
+     */
+    public long[] syncTokenBuckets(List<BucketUsage> usages) {
+        List<String> keys = new ArrayList<>(usages.size());
+        List<String> args = new ArrayList<>(usages.size() * 3);
+        for (BucketUsage usage : usages) {
+            keys.add(CacheKeyGenerator.rateLimit("tb", usage.getKeyHash()));
+            args.add(String.valueOf(usage.getConsumed()));
+            args.add(String.valueOf(usage.getLimit()));
+            args.add(String.valueOf(usage.getWindow().toMillis()));
+        }
+
+        try {
+            List<?> result = circuitBreaker.execute(() -> redisTemplate.execute(tokenBucketSync, keys, args.toArray()));
+            if (result == null || result.size() != usages.size()) {
+                return null;
+            }
+
+            long[] debts = new long[result.size()];
+            for (int i = 0; i < debts.length; i++) {
+                debts[i] = ((Number) result.get(i)).longValue();
+            }
+            return debts;
+        } catch (Exception e) {
+            if (RedisCircuitBreaker.isRejected(e)) {
+                log.debug("Token bucket sync skipped for {} keys: circuit open", keys.size());
+            } else {
+                log.error("Token bucket sync error for {} keys: {}", keys.size(), e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Acquire a permit of the key's distributed in-flight semaphore.
+     *
+     * @param keyHash API key hash
+     * @param maxPermits Maximum concurrent permits across the cluster
+     * @param lease Permit lease (released automatically if never released explicitly)
+     * @param permitId Unique permit id
+     * @return true if acquired, false if all permits are taken, null on Redis failure
+     */
+    public Boolean acquireSemaphore(String keyHash, int maxPermits, Duration lease, String permitId) {
+        String key = CacheKeyGenerator.rateLimit("inflight", keyHash);
+        try {
+            Long acquired = circuitBreaker.execute(() -> redisTemplate.execute(semaphoreAcquire, List.of(key),
+                    String.valueOf(maxPermits), String.valueOf(lease.toMillis()), permitId));
+            return acquired == null ? null : acquired == 1;
+        } catch (Exception e) {
+            if (RedisCircuitBreaker.isRejected(e)) {
+                log.debug("Semaphore acquire skipped for key {}: circuit open", key);
+            } else {
+                log.error("Semaphore acquire error for key {}: {}", key, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Release a permit of the key's distributed in-flight semaphore.
+     * Not guarded by the circuit breaker, so permits are always returned when possible.
+     */
+    public void releaseSemaphore(String keyHash, String permitId) {
+        String key = CacheKeyGenerator.rateLimit("inflight", keyHash);
+        try {
+            redisTemplate.opsForZSet().remove(key, permitId);
+        } catch (Exception e) {
+            log.error("Semaphore release error for key {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Tokens consumed by one node-local bucket since its last sync.
+     */
+    public static class BucketUsage {
+        private final String keyHash;
+        private final long consumed;
+        private final int limit;
+        private final Duration window;
+
+        public BucketUsage(String keyHash, long consumed, int limit, Duration window) {
+            this.keyHash = keyHash;
+            this.consumed = consumed;
+            this.limit = limit;
+            this.window = window;
+        }
+
+        public String getKeyHash() {
+            return keyHash;
+        }
+
+        public long getConsumed() {
+            return consumed;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the rate limit cost and bucket of a request from its route.
+ * Patterns are parsed once at startup; the first matching rule wins and
+ * unmatched requests cost 1 unit in the key's default bucket.
+ *
+ * A cost above a key's quota is charged as the whole quota (see
+ * {@link RateLimitService}); {@link RateLimitQuotas} logs such quotas on load.
+ */
+@Component
+public class RouteCostResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteCostResolver.class);
+
+    private final List<CompiledRoute> routes = new ArrayList<>();
+    private final int maxCost;
+
+    public RouteCostResolver(RateLimitRouteProperties properties) {
+        PathPatternParser parser = new PathPatternParser();
+        int max = RouteCost.DEFAULT.getCost();
+        for (RateLimitRouteProperties.Route route : properties.getRoutes()) {
+            if (route.getPattern() == null || route.getCost() < 1) {
+                throw new IllegalArgumentException("Invalid rate limit route: pattern=" + route.getPattern()
+                        + ", cost=" + route.getCost());
+            }
+            routes.add(new CompiledRoute(parser.parse(route.getPattern()), route.getMethod(),
+                    new RouteCost(route.getCost(), route.getGroup())));
+            max = Math.max(max, route.getCost());
+        }
+        this.maxCost = max;
+        log.info("Loaded {} rate limit route cost rules", routes.size());
+    }
+
+    /**
+     * Resolve cost and bucket for request.
+     */
+    public RouteCost resolve(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return RouteCost.DEFAULT;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (CompiledRoute route : routes) {
+            if ((route.method == null || route.method.equalsIgnoreCase(request.getMethod()))
+                    && route.pattern.matches(pathContainer)) {
+                return route.cost;
+            }
+        }
+        return RouteCost.DEFAULT;
+    }
+
+    /**
+     * Highest cost of any configured route (1 if none).
+     */
+    public int getMaxCost() {
+        return maxCost;
+    }
+
+    private static final class CompiledRoute {
+        private final PathPattern pattern;
+        private final String method;
+        private final RouteCost cost;
+
+        private CompiledRoute(PathPattern pattern, String method, RouteCost cost) {
+            this.pattern = pattern;
+            this.method = method;
+            this.cost = cost;
+        }
+    }
+
+    /**
+     * Units charged for a request and the bucket they are charged to.
+     */
+    public static class RouteCost {
+
+        public static final RouteCost DEFAULT = new RouteCost(1, null);
+
+        private final int cost;
+        private final String group;
+
+        public RouteCost(int cost, String group) {
+            this.cost = cost;
+            this.group = group;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        /**
+         * Separate bucket name, or null for the key's default bucket.
+         */
+        public String getGroup() {
+            return group;
+        }
+    }
+}
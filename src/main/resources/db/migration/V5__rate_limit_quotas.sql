@@ -0,0 +1,27 @@
+-- V5__rate_limit_quotas.sql
+-- Rate limit quotas (requests per minute), per tier or per API key.
+-- A key-level row overrides the key's tier. Tiers without a row are unlimited.
+-- Edits to this table take effect on every node within the poll interval
+-- (rate-limit.quotas.reload-interval-ms); no redeploy needed.
+
+CREATE TABLE rate_limit_quotas (
+    id BIGSERIAL PRIMARY KEY,
+    tier VARCHAR(20) UNIQUE,
+    key_hash VARCHAR(64) UNIQUE,
+    requests_per_minute INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_quota_scope CHECK ((tier IS NULL) <> (key_hash IS NULL)),
+    CONSTRAINT chk_quota_tier CHECK (tier IN ('BASIC', 'STANDARD', 'PREMIUM', 'UNLIMITED')),
+    CONSTRAINT chk_quota_positive CHECK (requests_per_minute > 0)
+);
+
+CREATE TRIGGER update_rate_limit_quotas_updated_at BEFORE UPDATE ON rate_limit_quotas
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+INSERT INTO rate_limit_quotas (tier, requests_per_minute)
+VALUES
+    ('BASIC', 60),
+    ('STANDARD', 300),
+    ('PREMIUM', 1000)
+ON CONFLICT (tier) DO NOTHING;
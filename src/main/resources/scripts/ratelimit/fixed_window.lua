@@ -0,0 +1,28 @@
+-- Fixed-window rate limit counter.
+-- Adds the request cost and starts the window on the first hit, atomically.
+--
+-- KEYS[1]  counter key
+-- ARGV[1]  limit (units per window)
+-- ARGV[2]  window length in milliseconds
+-- ARGV[3]  cost of this request in units (default 1)
+--
+-- Returns {allowed (1/0), remaining, reset_ms}.
+
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3] or 1)
+
+local count = redis.call('INCRBY', KEYS[1], cost)
+local ttl = redis.call('PTTL', KEYS[1])
+
+if ttl < 0 then
+    redis.call('PEXPIRE', KEYS[1], window)
+    ttl = window
+end
+
+local allowed = 0
+if count <= limit then
+    allowed = 1
+end
+
+return {allowed, math.max(0, limit - count), ttl}
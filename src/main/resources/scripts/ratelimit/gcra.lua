@@ -0,0 +1,39 @@
+-- Generic cell rate algorithm (GCRA) rate limit.
+-- Stores only the theoretical arrival time (TAT) of the next request: requests
+-- are spaced one emission interval (window / limit) apart, with a burst of up
+-- to the full limit allowed when the key has been idle.
+--
+-- KEYS[1]  TAT key (milliseconds since epoch)
+-- ARGV[1]  limit (units per window)
+-- ARGV[2]  window length in milliseconds
+-- ARGV[3]  cost of this request in units (default 1)
+--
+-- Returns {allowed (1/0), remaining, reset_ms}. When denied, reset_ms is the
+-- time until the next request is allowed; when allowed, the time until the
+-- full burst is available again.
+
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3] or 1)
+local interval = window / limit
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+if tat < now then
+    tat = now
+end
+
+local newTat = tat + interval * cost
+local allowAt = newTat - window
+
+if now < allowAt then
+    return {0, 0, math.ceil(allowAt - now)}
+end
+
+local resetMs = math.ceil(newTat - now)
+redis.call('SET', KEYS[1], string.format('%.3f', newTat), 'PX', resetMs)
+
+local remaining = math.floor((window - (newTat - now)) / interval + 0.000001)
+return {1, remaining, resetMs}
@@ -0,0 +1,26 @@
+-- Distributed counting semaphore with leases.
+-- Permits are members of a sorted set scored by lease expiry, so permits of a
+-- crashed node expire on their own instead of leaking.
+--
+-- KEYS[1]  semaphore key (sorted set: permit id -> lease expiry ms)
+-- ARGV[1]  maximum permits
+-- ARGV[2]  lease length in milliseconds
+-- ARGV[3]  permit id
+--
+-- Returns 1 if the permit was acquired, 0 if all permits are taken.
+
+local limit = tonumber(ARGV[1])
+local lease = tonumber(ARGV[2])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+
+if redis.call('ZCARD', KEYS[1]) >= limit then
+    return 0
+end
+
+redis.call('ZADD', KEYS[1], now + lease, ARGV[3])
+redis.call('PEXPIRE', KEYS[1], lease)
+return 1
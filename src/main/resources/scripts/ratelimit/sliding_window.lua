@@ -0,0 +1,43 @@
+-- Sliding-window counter rate limit.
+-- Keeps per-window counts in one hash and weights the previous window by how
+-- much of it still overlaps the sliding window ending now. Prevents the 2x
+-- burst a fixed window allows across its boundary, in O(1) memory per key.
+--
+-- KEYS[1]  hash key (field = window index, value = units used)
+-- ARGV[1]  limit (units per window)
+-- ARGV[2]  window length in milliseconds
+-- ARGV[3]  cost of this request in units (default 1)
+--
+-- Returns {allowed (1/0), remaining, reset_ms}. Denied requests are not counted.
+
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local cost = tonumber(ARGV[3] or 1)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local current = math.floor(now / window)
+local elapsed = now - current * window
+
+local currentCount = tonumber(redis.call('HGET', KEYS[1], current) or 0)
+local previousCount = tonumber(redis.call('HGET', KEYS[1], current - 1) or 0)
+local weighted = previousCount * (window - elapsed) / window + currentCount
+
+if weighted + cost > limit then
+    return {0, 0, window - elapsed}
+end
+
+redis.call('HINCRBY', KEYS[1], current, cost)
+
+-- Drop counts older than the previous window
+if redis.call('HLEN', KEYS[1]) > 2 then
+    for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+        if tonumber(field) < current - 1 then
+            redis.call('HDEL', KEYS[1], field)
+        end
+    end
+end
+redis.call('PEXPIRE', KEYS[1], window * 2)
+
+return {1, math.max(0, math.floor(limit - weighted - cost)), window - elapsed}
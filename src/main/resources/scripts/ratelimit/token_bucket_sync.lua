@@ -0,0 +1,44 @@
+-- Reconcile node-local token buckets with a shared, cluster-wide bucket.
+-- Each node reports the tokens it consumed since its last sync; consumption is
+-- charged unconditionally (the node has already admitted those requests) and
+-- the cluster-wide debt is returned so the node can align its local bucket.
+--
+-- The shared bucket is stored in GCRA form: the theoretical arrival time (TAT)
+-- in milliseconds, advanced by window / limit per consumed token.
+--
+-- KEYS[i]      shared TAT key of bucket i
+-- ARGV[3i-2]   tokens consumed on this node since last sync
+-- ARGV[3i-1]   limit (tokens per window)
+-- ARGV[3i]     window length in milliseconds
+--
+-- Returns {debt_ms, ...}: how far each bucket's TAT is ahead of now
+-- (0 = full bucket, window = empty bucket).
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local result = {}
+for i, key in ipairs(KEYS) do
+    local consumed = tonumber(ARGV[i * 3 - 2])
+    local limit = tonumber(ARGV[i * 3 - 1])
+    local window = tonumber(ARGV[i * 3])
+
+    local tat = tonumber(redis.call('GET', key) or now)
+    if tat < now then
+        tat = now
+    end
+
+    tat = tat + consumed * window / limit
+    -- Cap accumulated overshoot so an over-consumed key recovers within two windows
+    if tat > now + window * 2 then
+        tat = now + window * 2
+    end
+
+    local debt = math.ceil(tat - now)
+    if debt > 0 then
+        redis.call('SET', key, string.format('%.3f', tat), 'PX', debt)
+    end
+    result[i] = debt
+end
+
+return result
@@ -0,0 +1,93 @@
+package com.project.benchmark;
+
+import com.project.config.RedisConfig;
+import com.project.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.project.infrastructure.cache.CacheValueSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache value encoding, JSON (legacy) vs Smile, with and without LZ4
+ * compression, for a single product and a page of 50 products.
+ * Payload sizes are printed once per trial.
+ *
+ * Run manually (not part of the test suite):
+ *
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.project.benchmark.CacheCodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    @Param({"JSON", "SMILE"})
+    private CacheValueSerializer.Format format;
+
+    @Param({"1", "50"})
+    private int products;
+
+    @Param({"0", "2048"})
+    private int compressionThreshold;
+
+    private CacheValueSerializer serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = new CacheValueSerializer(format, new RedisConfig().objectMapper(),
+                compressionThreshold, new SimpleMeterRegistry());
+        List<Product> page = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            page.add(new Product((long) i, "Product " + i, "Description of product " + i,
+                    "SKU-" + i, new BigDecimal("19.99"), 100 + i, "ELECTRONICS", true,
+                    LocalDateTime.of(2026, 1, 10, 9, 30), LocalDateTime.of(2026, 1, 15, 14, 0)));
+        }
+        value = products == 1 ? page.get(0) : page;
+        encoded = serializer.serialize(value);
+        System.out.printf("%n%s, %d product(s), compression threshold %d: %d bytes%n",
+                format, products, compressionThreshold, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
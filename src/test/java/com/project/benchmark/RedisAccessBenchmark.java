@@ -0,0 +1,142 @@
+package com.project.benchmark;
+
+import com.project.config.RedisConfig;
+import com.project.infrastructure.cache.AsyncCacheService;
+import com.project.infrastructure.cache.CacheMetrics;
+import com.project.infrastructure.cache.CacheService;
+import com.project.infrastructure.cache.CacheValueSerializer;
+import com.project.infrastructure.cache.NearCache;
+import com.project.infrastructure.cache.RedisCircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache GET under 64 concurrent request threads: blocking CacheService
+ * (RedisTemplate) vs AsyncCacheService (shared pipelined connection), plus
+ * async with flush batching, and blocking with the tracked near cache.
+ * SampleTime mode reports throughput and p99.
+ *
+ * Needs a running Redis (REDIS_HOST / REDIS_PORT, default localhost:6379).
+ * Run manually (not part of the test suite):
+ *
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.project.benchmark.RedisAccessBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class RedisAccessBenchmark {
+
+    private static final String KEY = "product:benchmark";
+
+    private LettuceConnectionFactory connectionFactory;
+    private CacheService blocking;
+    private CacheService blockingNear;
+    private NearCache disabledNearCache;
+    private NearCache nearCache;
+    private AsyncCacheService async;
+    private AsyncCacheService asyncBatched;
+    private ExecutorService codecExecutor;
+
+    @Setup
+    public void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CacheValueSerializer serializer = new CacheValueSerializer(
+                CacheValueSerializer.Format.SMILE, new RedisConfig().objectMapper(), 2048, meterRegistry);
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(meterRegistry,
+                50, Duration.ofSeconds(1), 50, 100, Duration.ofSeconds(5));
+        CacheMetrics metrics = new CacheMetrics(meterRegistry, Set.of("product"));
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        RedisTemplate<String, Object> redisTemplate = new RedisConfig().redisTemplate(connectionFactory, serializer);
+
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost(host);
+        redisProperties.setPort(port);
+
+        disabledNearCache = new NearCache(redisProperties, meterRegistry, false, List.of(), 0, Duration.ofMinutes(5));
+        blocking = new CacheService(redisTemplate, circuitBreaker, metrics, disabledNearCache, 1.0);
+        nearCache = new NearCache(redisProperties, meterRegistry, true, List.of("product:"), 1000, Duration.ofMinutes(5));
+        nearCache.startTracking();
+        blockingNear = new CacheService(redisTemplate, circuitBreaker, metrics, nearCache, 1.0);
+        codecExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        async = new AsyncCacheService(connectionFactory, redisProperties, serializer, circuitBreaker, metrics,
+                codecExecutor, 0, Duration.ofMillis(1));
+        asyncBatched = new AsyncCacheService(connectionFactory, redisProperties, serializer, circuitBreaker, metrics,
+                codecExecutor, 16, Duration.ofNanos(200_000));
+
+        blocking.set(KEY, "benchmark value", Duration.ofHours(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        async.shutdown();
+        asyncBatched.shutdown();
+        codecExecutor.shutdown();
+        nearCache.shutdown();
+        disabledNearCache.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public Optional<String> blockingGet() {
+        return blocking.get(KEY, String.class);
+    }
+
+    @Benchmark
+    public Optional<String> blockingNearGet() {
+        return blockingNear.get(KEY, String.class);
+    }
+
+    @Benchmark
+    public Optional<String> asyncGet() {
+        return async.getAsync(KEY, String.class).join();
+    }
+
+    @Benchmark
+    public Optional<String> asyncBatchedGet() {
+        return asyncBatched.getAsync(KEY, String.class).join();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RedisAccessBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
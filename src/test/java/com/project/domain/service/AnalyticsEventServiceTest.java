@@ -14,10 +14,14 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @DisplayName("AnalyticsEventService Unit Tests")
@@ -69,16 +73,20 @@ class AnalyticsEventServiceTest {
     void testGetSummaryForSpecificDate() {
         // Arrange
         LocalDate testDate = LocalDate.of(2026, 1, 15);
-        when(valueOperations.get("analytics:events:PAGE_VIEW:2026-01-15")).thenReturn(1000L);
-        when(valueOperations.get("analytics:events:BUTTON_CLICK:2026-01-15")).thenReturn(500L);
-        when(valueOperations.get("analytics:events:FORM_SUBMIT:2026-01-15")).thenReturn(100L);
-        when(valueOperations.get("analytics:events:API_CALL:2026-01-15")).thenReturn(50L);
-        when(valueOperations.get("analytics:events:PURCHASE:2026-01-15")).thenReturn(10L);
+        when(valueOperations.multiGet(List.of(
+                "analytics:events:PAGE_VIEW:2026-01-15",
+                "analytics:events:BUTTON_CLICK:2026-01-15",
+                "analytics:events:FORM_SUBMIT:2026-01-15",
+                "analytics:events:API_CALL:2026-01-15",
+                "analytics:events:PURCHASE:2026-01-15")))
+                .thenReturn(List.of(1000L, 500L, 100L, 50L, 10L));
 
         // Act
         AnalyticsSummaryResponse summary = analyticsEventService.getSummary(testDate);
 
-        // Assert
+        // Assert - One MGET, no per-key GETs
+        verify(valueOperations, times(1)).multiGet(anyList());
+        verify(valueOperations, never()).get(any());
         assertNotNull(summary);
         assertEquals("2026-01-15", summary.getDate());
         assertEquals(1000L, summary.getEventCounts().get("PAGE_VIEW"));
@@ -96,11 +104,13 @@ class AnalyticsEventServiceTest {
         LocalDate today = LocalDate.now();
         String todayStr = today.toString();
 
-        when(valueOperations.get("analytics:events:PAGE_VIEW:" + todayStr)).thenReturn(100L);
-        when(valueOperations.get("analytics:events:BUTTON_CLICK:" + todayStr)).thenReturn(50L);
-        when(valueOperations.get("analytics:events:FORM_SUBMIT:" + todayStr)).thenReturn(10L);
-        when(valueOperations.get("analytics:events:API_CALL:" + todayStr)).thenReturn(5L);
-        when(valueOperations.get("analytics:events:PURCHASE:" + todayStr)).thenReturn(1L);
+        when(valueOperations.multiGet(List.of(
+                "analytics:events:PAGE_VIEW:" + todayStr,
+                "analytics:events:BUTTON_CLICK:" + todayStr,
+                "analytics:events:FORM_SUBMIT:" + todayStr,
+                "analytics:events:API_CALL:" + todayStr,
+                "analytics:events:PURCHASE:" + todayStr)))
+                .thenReturn(List.of(100L, 50L, 10L, 5L, 1L));
 
         // Act
         AnalyticsSummaryResponse summary = analyticsEventService.getSummary(null);
@@ -116,7 +126,7 @@ class AnalyticsEventServiceTest {
     void testGetSummaryWithMissingData() {
         // Arrange
         LocalDate testDate = LocalDate.of(2026, 1, 14);
-        when(valueOperations.get(anyString())).thenReturn(null);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null, null, null, null));
 
         // Act
         AnalyticsSummaryResponse summary = analyticsEventService.getSummary(testDate);
@@ -160,10 +170,12 @@ class AnalyticsEventServiceTest {
         expectedCounts.put("API_CALL", 25L);
         expectedCounts.put("PURCHASE", 5L);
 
-        for (Map.Entry<String, Long> entry : expectedCounts.entrySet()) {
-            when(valueOperations.get("analytics:events:" + entry.getKey() + ":2026-01-16"))
-                    .thenReturn(entry.getValue());
-        }
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream()
+                    .map(key -> expectedCounts.get(key.split(":")[2]))
+                    .collect(Collectors.toList());
+        });
 
         // Act
         AnalyticsSummaryResponse summary = analyticsEventService.getSummary(testDate);
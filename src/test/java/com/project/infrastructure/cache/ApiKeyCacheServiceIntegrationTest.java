@@ -3,6 +3,7 @@ package com.project.infrastructure.cache;
 import com.project.domain.model.ApiKey;
 import com.project.infrastructure.persistence.entity.ApiKeyEntity;
 import com.project.infrastructure.persistence.entity.UserEntity;
+import com.project.infrastructure.persistence.mapper.ApiKeyMapper;
 import com.project.infrastructure.persistence.repository.ApiKeyRepository;
 import com.project.infrastructure.persistence.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +38,12 @@ class ApiKeyCacheServiceIntegrationTest extends BaseRedisTest {
     @Autowired
     private CacheService cacheService;
 
+    @Autowired
+    private ApiKeyUsageTracker apiKeyUsageTracker;
+
+    @Autowired
+    private ApiKeyMapper apiKeyMapper;
+
     private UserEntity testUser;
 
     @BeforeEach
@@ -82,8 +90,9 @@ class ApiKeyCacheServiceIntegrationTest extends BaseRedisTest {
         // When - First call loads from DB
         apiKeyCacheService.findByKeyHash("hash002");
 
-        // Second call should hit cache (verify by deleting from DB)
-        apiKeyRepository.deleteAll();
+        // Second call should hit cache (verify by deleting from DB).
+        // Bulk delete bypasses entity callbacks, so the cached key is not invalidated.
+        apiKeyRepository.deleteAllInBatch();
 
         Optional<ApiKey> result = apiKeyCacheService.findByKeyHash("hash002");
 
@@ -141,7 +150,7 @@ class ApiKeyCacheServiceIntegrationTest extends BaseRedisTest {
     }
 
     @Test
-    void shouldUpdateLastUsedAtAndInvalidate() {
+    void shouldFlushLastUsedAtWithoutInvalidating() {
         // Given
         ApiKeyEntity entity = createApiKeyEntity("hash006", "Last Used Test");
         entity = apiKeyRepository.save(entity);
@@ -151,12 +160,13 @@ class ApiKeyCacheServiceIntegrationTest extends BaseRedisTest {
         apiKeyCacheService.findByKeyHash("hash006");
 
         // When
-        apiKeyCacheService.updateLastUsedAt("hash006");
+        apiKeyUsageTracker.recordUsage("hash006");
+        apiKeyUsageTracker.flush();
 
         // Then
-        // Cache should be invalidated
+        // Cache should still hold the key
         String cacheKey = CacheKeyGenerator.apiKeyByHash("hash006");
-        assertThat(cacheService.exists(cacheKey)).isFalse();
+        assertThat(cacheService.exists(cacheKey)).isTrue();
 
         // Database should be updated
         Optional<ApiKeyEntity> updated = apiKeyRepository.findById(entityId);
@@ -172,9 +182,14 @@ class ApiKeyCacheServiceIntegrationTest extends BaseRedisTest {
         createAndSaveApiKey("warm003", "Warm 3");
 
         // When
-        apiKeyCacheService.warmCache(java.util.List.of("warm001", "warm002", "warm003"));
+        List<ApiKey> apiKeys = apiKeyRepository.findAll().stream()
+                .filter(entity -> entity.getKeyHash().startsWith("warm"))
+                .map(apiKeyMapper::toDomain)
+                .toList();
+        int warmed = apiKeyCacheService.warmAll(apiKeys);
 
         // Then - All should be cached
+        assertThat(warmed).isEqualTo(3);
         assertThat(cacheService.exists(CacheKeyGenerator.apiKeyByHash("warm001"))).isTrue();
         assertThat(cacheService.exists(CacheKeyGenerator.apiKeyByHash("warm002"))).isTrue();
         assertThat(cacheService.exists(CacheKeyGenerator.apiKeyByHash("warm003"))).isTrue();
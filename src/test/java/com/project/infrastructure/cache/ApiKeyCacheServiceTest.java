@@ -0,0 +1,228 @@
+package com.project.infrastructure.cache;
+
+import com.project.domain.model.ApiKey;
+import com.project.infrastructure.persistence.entity.ApiKeyEntity;
+import com.project.infrastructure.persistence.mapper.ApiKeyMapper;
+import com.project.infrastructure.persistence.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ApiKeyCacheService.
+ * Tests the local (L1) tier in front of Redis with mocked dependencies.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApiKeyCacheServiceTest {
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    @Mock
+    private ApiKeyBloomFilter bloomFilter;
+
+    private ApiKeyCacheService apiKeyCacheService;
+
+    @BeforeEach
+    void setUp() {
+        apiKeyCacheService = new ApiKeyCacheService(
+                cacheService, apiKeyRepository, new ApiKeyMapper(), invalidationBus, bloomFilter,
+                new SimpleMeterRegistry(), Runnable::run, Optional.empty(), 100, Duration.ofMinutes(1), 100, Duration.ofSeconds(30),
+                Duration.ofMinutes(2));
+
+        // Single-flight loading runs the loader inline
+        lenient().when(cacheService.loadOnce(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    void shouldServeRepeatLookupsFromLocalCache() {
+        // Given
+        when(bloomFilter.mightContain(anyString())).thenReturn(true);
+        ApiKey apiKey = createApiKey("hash-l1");
+        when(cacheService.getWithTtl(CacheKeyGenerator.apiKeyByHash("hash-l1"), ApiKey.class))
+                .thenReturn(Optional.of(new CacheEntry<>(apiKey, Duration.ofMinutes(10))));
+
+        // When
+        apiKeyCacheService.findByKeyHash("hash-l1");
+        Optional<ApiKey> second = apiKeyCacheService.findByKeyHash("hash-l1");
+
+        // Then - Redis consulted only once
+        assertThat(second).containsSame(apiKey);
+        verify(cacheService, times(1)).getWithTtl(anyString(), eq(ApiKey.class));
+        verifyNoInteractions(apiKeyRepository);
+    }
+
+    @Test
+    void shouldEvictLocalCacheAndBroadcastOnInvalidate() {
+        // Given
+        when(bloomFilter.mightContain(anyString())).thenReturn(true);
+        ApiKey apiKey = createApiKey("hash-inv");
+        when(cacheService.getWithTtl(CacheKeyGenerator.apiKeyByHash("hash-inv"), ApiKey.class))
+                .thenReturn(Optional.of(new CacheEntry<>(apiKey, Duration.ofMinutes(10))));
+        apiKeyCacheService.findByKeyHash("hash-inv");
+
+        // When
+        apiKeyCacheService.invalidate("hash-inv");
+        apiKeyCacheService.findByKeyHash("hash-inv");
+
+        // Then - Local entry gone, other nodes notified
+        verify(cacheService, times(2)).getWithTtl(anyString(), eq(ApiKey.class));
+        verify(invalidationBus).publish("apikey", "hash-inv");
+    }
+
+    @Test
+    void shouldConfirmBloomAbsentKeyInDatabaseWithoutRedis() {
+        // Given
+        when(bloomFilter.mightContain("garbage")).thenReturn(false);
+        when(apiKeyRepository.findByKeyHash("garbage")).thenReturn(Optional.empty());
+
+        // When
+        Optional<ApiKey> result = apiKeyCacheService.findByKeyHash("garbage");
+        apiKeyCacheService.findByKeyHash("garbage");
+
+        // Then - Second lookup answered by the negative cache; not a false positive
+        assertThat(result).isEmpty();
+        verify(apiKeyRepository, times(1)).findByKeyHash("garbage");
+        verify(cacheService, never()).getWithTtl(anyString(), any());
+        verify(bloomFilter, never()).recordFalsePositive();
+    }
+
+    @Test
+    void shouldAcceptKeyInsertedSinceBloomFilterBuild() {
+        // Given - Key inserted by SQL, unknown to the filter
+        when(bloomFilter.mightContain("seeded")).thenReturn(false);
+        when(apiKeyRepository.findByKeyHash("seeded")).thenReturn(Optional.of(createEntity("seeded")));
+
+        // When
+        Optional<ApiKey> result = apiKeyCacheService.findByKeyHash("seeded");
+
+        // Then
+        assertThat(result).isPresent();
+        verify(bloomFilter).recordFalseNegative("seeded");
+    }
+
+    @Test
+    void shouldRememberDatabaseMissInNegativeCache() {
+        // Given - Bloom false positive
+        when(bloomFilter.mightContain("unknown")).thenReturn(true);
+        when(apiKeyRepository.findByKeyHash("unknown")).thenReturn(Optional.empty());
+
+        // When
+        apiKeyCacheService.findByKeyHash("unknown");
+        Optional<ApiKey> second = apiKeyCacheService.findByKeyHash("unknown");
+
+        // Then - Second lookup answered locally
+        assertThat(second).isEmpty();
+        verify(apiKeyRepository, times(1)).findByKeyHash("unknown");
+        verify(cacheService, times(1)).getWithTtl(anyString(), eq(ApiKey.class));
+        verify(bloomFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    void shouldClearNegativeEntryWhenKeyIsInvalidated() {
+        // Given
+        when(bloomFilter.mightContain("new-key")).thenReturn(true);
+        when(apiKeyRepository.findByKeyHash("new-key")).thenReturn(Optional.empty());
+        apiKeyCacheService.findByKeyHash("new-key");
+
+        // When - Key created elsewhere
+        apiKeyCacheService.invalidate("new-key");
+        apiKeyCacheService.findByKeyHash("new-key");
+
+        // Then
+        verify(apiKeyRepository, times(2)).findByKeyHash("new-key");
+        verify(bloomFilter).put("new-key");
+    }
+
+    @Test
+    void shouldRefreshInBackgroundWhenCloseToExpiry() {
+        // Given - Redis entry with 30s left (inside 2m refresh window)
+        when(bloomFilter.mightContain(anyString())).thenReturn(true);
+        String cacheKey = CacheKeyGenerator.apiKeyByHash("hash-hot");
+        ApiKey apiKey = createApiKey("hash-hot");
+        when(cacheService.getWithTtl(cacheKey, ApiKey.class))
+                .thenReturn(Optional.of(new CacheEntry<>(apiKey, Duration.ofSeconds(30))));
+        when(apiKeyRepository.findByKeyHash("hash-hot")).thenReturn(Optional.of(createEntity("hash-hot")));
+
+        // When
+        Optional<ApiKey> result = apiKeyCacheService.findByKeyHash("hash-hot");
+        apiKeyCacheService.findByKeyHash("hash-hot");
+
+        // Then - Cached value served, TTL reset once; L1 now holds the refreshed expiry
+        assertThat(result).containsSame(apiKey);
+        verify(apiKeyRepository, times(1)).findByKeyHash("hash-hot");
+        verify(cacheService, times(1)).set(eq(cacheKey), any(ApiKey.class), eq(Duration.ofMinutes(15)));
+    }
+
+    @Test
+    void shouldNotRefreshWhenFarFromExpiry() {
+        // Given
+        when(bloomFilter.mightContain(anyString())).thenReturn(true);
+        when(cacheService.getWithTtl(CacheKeyGenerator.apiKeyByHash("hash-cold"), ApiKey.class))
+                .thenReturn(Optional.of(new CacheEntry<>(createApiKey("hash-cold"), Duration.ofMinutes(10))));
+
+        // When
+        apiKeyCacheService.findByKeyHash("hash-cold");
+
+        // Then
+        verifyNoInteractions(apiKeyRepository);
+        verify(cacheService, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void shouldWriteLoadedKeyThroughAsyncCacheWhenEnabled() {
+        // Given
+        AsyncCacheService asyncCacheService = mock(AsyncCacheService.class);
+        ApiKeyCacheService withAsync = new ApiKeyCacheService(
+                cacheService, apiKeyRepository, new ApiKeyMapper(), invalidationBus, bloomFilter,
+                new SimpleMeterRegistry(), Runnable::run, Optional.of(asyncCacheService), 100, Duration.ofMinutes(1),
+                100, Duration.ofSeconds(30), Duration.ofMinutes(2));
+        when(bloomFilter.mightContain(anyString())).thenReturn(true);
+        when(apiKeyRepository.findByKeyHash("hash-new")).thenReturn(Optional.of(createEntity("hash-new")));
+
+        // When
+        Optional<ApiKey> result = withAsync.findByKeyHash("hash-new");
+
+        // Then - Request does not wait for the Redis write
+        assertThat(result).isPresent();
+        verify(asyncCacheService).setAsync(eq(CacheKeyGenerator.apiKeyByHash("hash-new")), any(ApiKey.class),
+                eq(Duration.ofMinutes(15)));
+        verify(cacheService, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    private ApiKeyEntity createEntity(String keyHash) {
+        ApiKeyEntity entity = new ApiKeyEntity();
+        entity.setKeyHash(keyHash);
+        entity.setName("Test Key");
+        entity.setRateLimitTier(ApiKeyEntity.RateLimitTier.BASIC);
+        entity.setIsActive(true);
+        return entity;
+    }
+
+    private ApiKey createApiKey(String keyHash) {
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKeyHash(keyHash);
+        apiKey.setName("Test Key");
+        apiKey.setRateLimitTier(ApiKey.RateLimitTier.BASIC);
+        apiKey.setIsActive(true);
+        return apiKey;
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.infrastructure.cache;
+
+import com.project.infrastructure.persistence.repository.ApiKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ApiKeyUsageTracker.
+ * Tests coalescing and batched flushing of last_used_at updates.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApiKeyUsageTrackerTest {
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    private ApiKeyUsageTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ApiKeyUsageTracker(apiKeyRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceRepeatedUsageIntoOneBatch() {
+        // Given
+        for (int i = 0; i < 100; i++) {
+            tracker.recordUsage("hash-a");
+            tracker.recordUsage("hash-b");
+        }
+        assertThat(tracker.getPendingCount()).isEqualTo(2);
+
+        // When
+        tracker.flush();
+
+        // Then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(apiKeyRepository, atMost(2)).updateLastUsedAtBatch(captor.capture(), any(LocalDateTime.class));
+        assertThat(captor.getAllValues().stream().mapToInt(Collection::size).sum()).isEqualTo(2);
+        assertThat(tracker.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWhenNothingPending() {
+        // When
+        tracker.flush();
+
+        // Then
+        verifyNoInteractions(apiKeyRepository);
+    }
+
+    @Test
+    void shouldRequeueOnFlushFailure() {
+        // Given
+        tracker.recordUsage("hash-fail");
+        when(apiKeyRepository.updateLastUsedAtBatch(anyCollection(), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("DB down"));
+
+        // When
+        tracker.flush();
+
+        // Then - Entry kept for the next flush
+        assertThat(tracker.getPendingCount()).isEqualTo(1);
+    }
+}
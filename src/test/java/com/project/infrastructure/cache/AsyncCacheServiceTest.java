@@ -0,0 +1,143 @@
+package com.project.infrastructure.cache;
+
+import com.project.config.RedisConfig;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AsyncCacheService.
+ * Tests value decoding, error handling and flush batching with a mocked Lettuce connection.
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncCacheServiceTest {
+
+    @Mock
+    private StatefulRedisConnection<String, byte[]> connection;
+
+    @Mock
+    private RedisAsyncCommands<String, byte[]> commands;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheValueSerializer serializer = new CacheValueSerializer(
+            CacheValueSerializer.Format.SMILE, new RedisConfig().objectMapper(), 0, meterRegistry);
+
+    private AsyncCacheService asyncCacheService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(connection.async()).thenReturn(commands);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncCacheService.shutdown();
+    }
+
+    @Test
+    void shouldDecodeValueWrittenByBlockingApi() throws Exception {
+        // Given
+        asyncCacheService = createService(0);
+        when(commands.get("product:1")).thenReturn(completed(serializer.serialize("cached")));
+
+        // When
+        Optional<String> value = asyncCacheService.getAsync("product:1", String.class).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(value).contains("cached");
+        assertThat(meterRegistry.get("cache.hits").tag("keyspace", "product").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTreatRedisErrorAsMiss() throws Exception {
+        // Given
+        asyncCacheService = createService(0);
+        TestRedisFuture<byte[]> failed = new TestRedisFuture<>();
+        failed.completeExceptionally(new IllegalStateException("Connection reset"));
+        when(commands.get("product:1")).thenReturn(failed);
+
+        // When
+        Optional<String> value = asyncCacheService.getAsync("product:1", String.class).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(value).isEmpty();
+    }
+
+    @Test
+    void shouldFlushOnceBatchIsFull() {
+        // Given
+        asyncCacheService = createService(3);
+        when(commands.set(anyString(), any(byte[].class), any(SetArgs.class))).thenReturn(completed("OK"));
+
+        // When
+        asyncCacheService.setAsync("product:1", "a", Duration.ofMinutes(1));
+        asyncCacheService.setAsync("product:2", "b", Duration.ofMinutes(1));
+        verify(connection, never()).flushCommands();
+        asyncCacheService.setAsync("product:3", "c", Duration.ofMinutes(1));
+
+        // Then
+        verify(connection, times(1)).flushCommands();
+    }
+
+    @Test
+    void shouldCompleteSetAsNoOpWhenValueCannotBeEncoded() throws Exception {
+        // Given
+        asyncCacheService = createService(0);
+
+        // When - Serializer rejects the value (not encodable)
+        CompletableFuture<Void> result = asyncCacheService.setAsync("product:1", new Object(), Duration.ofMinutes(1));
+
+        // Then
+        assertThat(result.get(1, TimeUnit.SECONDS)).isNull();
+        verifyNoInteractions(commands);
+    }
+
+    private AsyncCacheService createService(int flushBatchSize) {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(meterRegistry,
+                50, Duration.ofSeconds(1), 50, 10, Duration.ofMinutes(1));
+        CacheMetrics metrics = new CacheMetrics(meterRegistry, Set.of("product"));
+        // Long interval: only batch-size flushes happen during the test
+        return new AsyncCacheService(null, null, connection, serializer, circuitBreaker, metrics,
+                Runnable::run, flushBatchSize, Duration.ofMinutes(1));
+    }
+
+    private static <T> RedisFuture<T> completed(T value) {
+        TestRedisFuture<T> future = new TestRedisFuture<>();
+        future.complete(value);
+        return future;
+    }
+
+    /**
+     * Minimal RedisFuture backed by a CompletableFuture (as Lettuce's own commands are).
+     */
+    private static class TestRedisFuture<T> extends CompletableFuture<T> implements RedisFuture<T> {
+
+        @Override
+        public String getError() {
+            return null;
+        }
+
+        @Override
+        public boolean await(long timeout, TimeUnit unit) {
+            return isDone();
+        }
+    }
+}
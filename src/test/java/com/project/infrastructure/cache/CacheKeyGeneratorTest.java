@@ -37,13 +37,43 @@ class CacheKeyGeneratorTest {
         assertThat(key).isEqualTo("user:email:test@example.com");
     }
 
+    @Test
+    void shouldGenerateProductByIdKey() {
+        // When
+        String key = CacheKeyGenerator.productById(42L);
+
+        // Then
+        assertThat(key).isEqualTo("product:id:42");
+    }
+
     @Test
     void shouldGenerateProductBySkuKey() {
         // When
         String key = CacheKeyGenerator.productBySku("SKU-001");
 
         // Then
-        assertThat(key).isEqualTo("product:SKU-001");
+        assertThat(key).isEqualTo("product:sku:SKU-001");
+    }
+
+    @Test
+    void shouldKeepSkuKeysApartFromIdKeys() {
+        // When - SKU that looks like an ID segment
+        String skuKey = CacheKeyGenerator.productBySku("id:42");
+        String idKey = CacheKeyGenerator.productById(42L);
+
+        // Then
+        assertThat(skuKey).isNotEqualTo(idKey);
+    }
+
+    @Test
+    void shouldGenerateVersionedListQueryKey() {
+        // When
+        String versionKey = CacheKeyGenerator.namespaceVersion("product");
+        String listKey = CacheKeyGenerator.listQuery("product", 7L, "active");
+
+        // Then
+        assertThat(versionKey).isEqualTo("version:product");
+        assertThat(listKey).isEqualTo("list:product:7:active");
     }
 
     @Test
@@ -54,4 +84,13 @@ class CacheKeyGeneratorTest {
         // Then
         assertThat(key).isEqualTo("ratelimit:abc123:1640000000");
     }
+
+    @Test
+    void shouldGenerateRateLimitKeyPerAlgorithm() {
+        // When
+        String key = CacheKeyGenerator.rateLimit("gcra", "abc123");
+
+        // Then
+        assertThat(key).isEqualTo("ratelimit:gcra:abc123");
+    }
 }
@@ -0,0 +1,60 @@
+package com.project.infrastructure.cache;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CacheMetrics.
+ * Tests keyspace resolution and per-keyspace hit rates and latency.
+ */
+class CacheMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheMetrics cacheMetrics = new CacheMetrics(meterRegistry, Set.of("apikey", "product"));
+
+    @Test
+    void shouldResolveKeyspaceFromKeyPrefix() {
+        // Then - Unknown prefixes collapse into "other"
+        assertThat(cacheMetrics.keyspace("apikey:abc123")).isEqualTo("apikey");
+        assertThat(cacheMetrics.keyspace("product:SKU-1")).isEqualTo("product");
+        assertThat(cacheMetrics.keyspace("session:xyz")).isEqualTo(CacheMetrics.OTHER_KEYSPACE);
+        assertThat(cacheMetrics.keyspace("nocolon")).isEqualTo(CacheMetrics.OTHER_KEYSPACE);
+    }
+
+    @Test
+    void shouldTrackHitRatePerKeyspace() {
+        // When
+        cacheMetrics.recordHit("apikey");
+        cacheMetrics.recordHit("apikey");
+        cacheMetrics.recordHit("apikey");
+        cacheMetrics.recordMiss("apikey");
+        cacheMetrics.recordMiss("product");
+
+        // Then
+        Map<String, CacheMetrics.KeyspaceStats> stats = cacheMetrics.getKeyspaceStats();
+        assertThat(stats.get("apikey").getHits()).isEqualTo(3);
+        assertThat(stats.get("apikey").getHitRate()).isEqualTo(0.75);
+        assertThat(stats.get("product").getHitRate()).isZero();
+        assertThat(cacheMetrics.getHitRate()).isEqualTo(0.6);
+        assertThat(meterRegistry.get("cache.hits").tag("keyspace", "apikey").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRecordLatencyPerKeyspaceAndOperation() {
+        // When
+        cacheMetrics.recordLatency("apikey", "GET", 1_000_000);
+        cacheMetrics.recordLatency("apikey", "GET", 3_000_000);
+        cacheMetrics.recordLatency("apikey", "SET", 2_000_000);
+
+        // Then
+        Timer get = meterRegistry.get("cache.latency").tags("keyspace", "apikey", "operation", "GET").timer();
+        assertThat(get.count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.latency").tags("operation", "SET").timer().count()).isEqualTo(1);
+    }
+}
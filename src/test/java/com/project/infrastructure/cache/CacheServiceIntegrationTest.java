@@ -6,6 +6,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -128,6 +131,52 @@ class CacheServiceIntegrationTest extends BaseRedisTest {
         assertThat(cacheService.exists(key)).isTrue();
     }
 
+    @Test
+    void shouldGetManyValuesInOneCall() {
+        // Given
+        cacheService.set("test:multi:1", "one", Duration.ofMinutes(5));
+        cacheService.set("test:multi:2", "two", Duration.ofMinutes(5));
+
+        // When
+        Map<String, String> values = cacheService.multiGet(
+                List.of("test:multi:1", "test:multi:missing", "test:multi:2"), String.class);
+
+        // Then - Hits only, in request order
+        assertThat(values).containsExactly(Map.entry("test:multi:1", "one"), Map.entry("test:multi:2", "two"));
+    }
+
+    @Test
+    void shouldSetManyValuesWithPerEntryTtl() {
+        // Given
+        Map<String, CacheEntry<String>> entries = new LinkedHashMap<>();
+        entries.put("test:mset:short", new CacheEntry<>("a", Duration.ofSeconds(30)));
+        entries.put("test:mset:long", new CacheEntry<>("b", Duration.ofMinutes(30)));
+        entries.put("test:mset:none", new CacheEntry<>("c", null));
+
+        // When
+        cacheService.multiSet(entries);
+
+        // Then
+        assertThat(redisTemplate.getExpire("test:mset:short")).isBetween(1L, 30L);
+        assertThat(redisTemplate.getExpire("test:mset:long")).isGreaterThan(30L);
+        assertThat(redisTemplate.getExpire("test:mset:none")).isEqualTo(-1L);
+        assertThat(cacheService.get("test:mset:none", String.class)).contains("c");
+    }
+
+    @Test
+    void shouldDeleteManyValuesInOneCall() {
+        // Given
+        cacheService.set("test:mdel:1", "one", Duration.ofMinutes(5));
+        cacheService.set("test:mdel:2", "two", Duration.ofMinutes(5));
+
+        // When
+        long deleted = cacheService.multiDelete(List.of("test:mdel:1", "test:mdel:2", "test:mdel:missing"));
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(cacheService.exists("test:mdel:1")).isFalse();
+    }
+
     @Test
     void shouldHandleComplexObjects() {
         // Given
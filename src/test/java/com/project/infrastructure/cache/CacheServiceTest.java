@@ -0,0 +1,204 @@
+package com.project.infrastructure.cache;
+
+import io.lettuce.core.RedisClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CacheService load-through (getOrLoad) and the near cache.
+ * Tests miss loading, probabilistic early recomputation and near-cache reads with mocked Redis.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private NearCache nearCache;
+
+    private CacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry(),
+                50, Duration.ofSeconds(1), 50, 10, Duration.ofMinutes(1));
+        CacheMetrics metrics = new CacheMetrics(new SimpleMeterRegistry(), Set.of("product"));
+        nearCache = new NearCache((RedisClient) null, new SimpleMeterRegistry(), true, List.of("product:"), 100, Duration.ofMinutes(1));
+        cacheService = new CacheService(redisTemplate, circuitBreaker, metrics, nearCache, 1.0);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void shouldLoadAndCacheOnMiss() {
+        // Given
+        stubLookup(null, -2L);
+
+        // When
+        String value = cacheService.getOrLoad("product:1", String.class, TTL, () -> "loaded");
+
+        // Then
+        assertThat(value).isEqualTo("loaded");
+        verify(valueOperations).set(eq("product:1"), any(ComputedValue.class),
+                eq(TTL.toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldServeCachedValueFarFromExpiry() {
+        // Given - Cheap value (5 ms) with 9 minutes left
+        stubLookup(new ComputedValue("cached", 5), Duration.ofMinutes(9).toMillis());
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        String value = cacheService.getOrLoad("product:1", String.class, TTL, () -> {
+            loads.incrementAndGet();
+            return "loaded";
+        });
+
+        // Then
+        assertThat(value).isEqualTo("cached");
+        assertThat(loads).hasValue(0);
+        verify(valueOperations, never()).setIfAbsent(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void shouldRecomputeEarlyWhenLockAcquired() {
+        // Given - Expensive value (10 s) with 1 ms left: early recompute is certain
+        stubLookup(new ComputedValue("stale", 10_000), 1L);
+        when(valueOperations.setIfAbsent(eq("product:1:lock"), any(), eq(TTL))).thenReturn(true);
+
+        // When
+        String value = cacheService.getOrLoad("product:1", String.class, TTL, () -> "fresh");
+
+        // Then
+        assertThat(value).isEqualTo("fresh");
+        verify(redisTemplate).delete("product:1:lock");
+    }
+
+    @Test
+    void shouldServeCachedValueWhileAnotherNodeRecomputes() {
+        // Given
+        stubLookup(new ComputedValue("stale", 10_000), 1L);
+        when(valueOperations.setIfAbsent(eq("product:1:lock"), any(), eq(TTL))).thenReturn(false);
+
+        // When
+        String value = cacheService.getOrLoad("product:1", String.class, TTL, () -> "fresh");
+
+        // Then
+        assertThat(value).isEqualTo("stale");
+    }
+
+    @Test
+    void shouldRecomputeEarlierForExpensiveValues() {
+        // Given - Same random draw and remaining TTL
+        double random = 0.5;
+
+        // Then
+        assertThat(CacheService.shouldRecomputeEarly(60_000, 10, 1.0, random)).isFalse();
+        assertThat(CacheService.shouldRecomputeEarly(60_000, 100_000, 1.0, random)).isTrue();
+        assertThat(CacheService.shouldRecomputeEarly(0, 10, 1.0, random)).isTrue();
+    }
+
+    @Test
+    void shouldServeRepeatGetsFromNearCacheWhileTracking() {
+        // Given
+        nearCache.resume();
+        when(valueOperations.get("product:1")).thenReturn("cached");
+
+        // When
+        cacheService.get("product:1", String.class);
+        Optional<String> second = cacheService.get("product:1", String.class);
+
+        // Then - Redis consulted only once
+        assertThat(second).contains("cached");
+        verify(valueOperations, times(1)).get("product:1");
+    }
+
+    @Test
+    void shouldReadRedisAgainAfterInvalidation() {
+        // Given
+        nearCache.resume();
+        when(valueOperations.get("product:1")).thenReturn("old", "new");
+        cacheService.get("product:1", String.class);
+
+        // When - Redis pushes an invalidation (another node wrote the key)
+        nearCache.onInvalidate(List.of("product:1"));
+        Optional<String> value = cacheService.get("product:1", String.class);
+
+        // Then
+        assertThat(value).contains("new");
+        verify(valueOperations, times(2)).get("product:1");
+    }
+
+    @Test
+    void shouldNotServeNearCopyPastItsRedisExpiry() {
+        // Given - Near copy whose Redis key expired, before the expiry push arrived
+        nearCache.resume();
+        nearCache.put("product:1", "expired", System.currentTimeMillis() - 1, nearCache.stamp());
+        when(valueOperations.get("product:1")).thenReturn(null);
+
+        // When
+        Optional<String> value = cacheService.get("product:1", String.class);
+
+        // Then
+        assertThat(value).isEmpty();
+        verify(valueOperations).get("product:1");
+    }
+
+    @Test
+    void shouldBypassNearCacheWithoutTracking() {
+        // Given - Tracking never started
+        when(valueOperations.get("product:1")).thenReturn("cached");
+
+        // When
+        cacheService.get("product:1", String.class);
+        cacheService.get("product:1", String.class);
+
+        // Then
+        verify(valueOperations, times(2)).get("product:1");
+    }
+
+    @Test
+    void shouldDropNearCopyOnLocalWrite() {
+        // Given
+        nearCache.resume();
+        when(valueOperations.get("product:1")).thenReturn("old", "new");
+        cacheService.get("product:1", String.class);
+
+        // When
+        cacheService.set("product:1", "new", TTL);
+        Optional<String> value = cacheService.get("product:1", String.class);
+
+        // Then - Read-your-writes without waiting for the push
+        assertThat(value).contains("new");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLookup(Object value, long ttlMillis) {
+        List<Object> results = Arrays.asList(value, ttlMillis);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(results);
+    }
+}
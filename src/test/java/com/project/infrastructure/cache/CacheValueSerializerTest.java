@@ -0,0 +1,136 @@
+package com.project.infrastructure.cache;
+
+import com.project.config.RedisConfig;
+import com.project.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CacheValueSerializer.
+ * Tests round trips, version header, reading legacy JSON values and compression.
+ */
+class CacheValueSerializerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheValueSerializer smile = createSerializer(CacheValueSerializer.Format.SMILE, 0);
+    private final CacheValueSerializer json = createSerializer(CacheValueSerializer.Format.JSON, 0);
+
+    @Test
+    void shouldRoundTripDomainObjectWithVersionHeader() {
+        // Given
+        Product product = createProduct();
+
+        // When
+        byte[] bytes = smile.serialize(product);
+        Object decoded = smile.deserialize(bytes);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CacheValueSerializer.SMILE_V1);
+        assertThat(decoded).isInstanceOf(Product.class);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(product);
+    }
+
+    @Test
+    void shouldReadLegacyJsonValues() {
+        // Given - Value written by a node still using JSON
+        Product product = createProduct();
+        byte[] legacy = json.serialize(product);
+
+        // When
+        Object decoded = smile.deserialize(legacy);
+
+        // Then
+        assertThat(legacy[0]).isEqualTo((byte) '{');
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(product);
+    }
+
+    @Test
+    void shouldProduceSmallerPayloadThanJson() {
+        // Given
+        Product product = createProduct();
+
+        // When
+        int smileSize = smile.serialize(product).length;
+        int jsonSize = json.serialize(product).length;
+
+        // Then
+        assertThat(smileSize).isLessThan(jsonSize);
+    }
+
+    @Test
+    void shouldHandleNullAndEmpty() {
+        // Then
+        assertThat(smile.serialize(null)).isEmpty();
+        assertThat(smile.deserialize(null)).isNull();
+        assertThat(smile.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void shouldCompressValuesAboveThreshold() {
+        // Given
+        CacheValueSerializer compressing = createSerializer(CacheValueSerializer.Format.SMILE, 512);
+        List<Product> page = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            page.add(createProduct());
+        }
+
+        // When
+        byte[] bytes = compressing.serialize(page);
+        Object decoded = compressing.deserialize(bytes);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CacheValueSerializer.LZ4);
+        assertThat(bytes.length).isLessThan(smile.serialize(page).length);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(page);
+        assertThat(meterRegistry.get("cache.codec.compression.ratio").summary().mean()).isGreaterThan(1.0);
+    }
+
+    @Test
+    void shouldNotCompressSmallValues() {
+        // Given
+        CacheValueSerializer compressing = createSerializer(CacheValueSerializer.Format.SMILE, 512);
+
+        // When
+        byte[] bytes = compressing.serialize(createProduct());
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CacheValueSerializer.SMILE_V1);
+        assertThat(smile.deserialize(bytes)).usingRecursiveComparison().isEqualTo(createProduct());
+    }
+
+    @Test
+    void shouldWriteJsonReadableByLegacySerializerAboveThreshold() {
+        // Given - JSON mode during a rolling upgrade, compression configured
+        CacheValueSerializer jsonCompressing = createSerializer(CacheValueSerializer.Format.JSON, 512);
+        GenericJackson2JsonRedisSerializer legacy = new GenericJackson2JsonRedisSerializer(new RedisConfig().objectMapper());
+        List<Product> page = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            page.add(createProduct());
+        }
+
+        // When
+        byte[] bytes = jsonCompressing.serialize(page);
+
+        // Then - Plain JSON text an old node can decode
+        assertThat(bytes[0]).isEqualTo((byte) '[');
+        assertThat(legacy.deserialize(bytes)).usingRecursiveComparison().isEqualTo(page);
+    }
+
+    private CacheValueSerializer createSerializer(CacheValueSerializer.Format format, int compressionThreshold) {
+        return new CacheValueSerializer(format, new RedisConfig().objectMapper(), compressionThreshold, meterRegistry);
+    }
+
+    private Product createProduct() {
+        return new Product(42L, "Mechanical Keyboard", "Tenkeyless, hot-swappable switches",
+                "KB-TKL-001", new BigDecimal("129.99"), 250, "ELECTRONICS", true,
+                LocalDateTime.of(2026, 1, 10, 9, 30), LocalDateTime.of(2026, 1, 15, 14, 0));
+    }
+}
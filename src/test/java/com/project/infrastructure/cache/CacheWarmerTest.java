@@ -0,0 +1,99 @@
+package com.project.infrastructure.cache;
+
+import com.project.infrastructure.persistence.entity.ApiKeyEntity;
+import com.project.infrastructure.persistence.mapper.ApiKeyMapper;
+import com.project.infrastructure.persistence.repository.ApiKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CacheWarmer.
+ * Tests keyset-paginated bulk warming and readiness reporting.
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    @Mock
+    private ApiKeyCacheService apiKeyCacheService;
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CacheWarmer cacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        cacheWarmer = new CacheWarmer(apiKeyCacheService, apiKeyRepository, new ApiKeyMapper(), eventPublisher, 2);
+    }
+
+    @Test
+    void shouldWarmInKeysetPaginatedBatches() {
+        // Given - 3 keys, batch size 2
+        when(apiKeyRepository.findActiveUnexpiredAfter(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createEntity(1L), createEntity(2L)));
+        when(apiKeyRepository.findActiveUnexpiredAfter(any(LocalDateTime.class), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(createEntity(5L)));
+        when(apiKeyCacheService.warmAll(anyCollection())).thenAnswer(inv -> inv.<List<?>>getArgument(0).size());
+
+        // When
+        int warmed = cacheWarmer.warmActiveApiKeys();
+
+        // Then - One bulk write per batch, no per-key lookups
+        assertThat(warmed).isEqualTo(3);
+        verify(apiKeyCacheService, times(2)).warmAll(anyCollection());
+        verify(apiKeyCacheService, never()).findByKeyHash(anyString());
+        verify(apiKeyRepository, never()).findAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportReadinessOnlyAfterWarming() {
+        // Given
+        when(apiKeyRepository.findActiveUnexpiredAfter(any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        cacheWarmer.warmCacheOnStartup();
+
+        // Then
+        ArgumentCaptor<AvailabilityChangeEvent<ReadinessState>> captor =
+                ArgumentCaptor.forClass(AvailabilityChangeEvent.class);
+        InOrder inOrder = inOrder(eventPublisher, apiKeyRepository);
+        inOrder.verify(eventPublisher).publishEvent(captor.capture());
+        inOrder.verify(apiKeyRepository).findActiveUnexpiredAfter(any(), anyLong(), any());
+        inOrder.verify(eventPublisher).publishEvent(captor.capture());
+
+        assertThat(captor.getAllValues())
+                .extracting(AvailabilityChangeEvent::getState)
+                .containsExactly(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private ApiKeyEntity createEntity(Long id) {
+        ApiKeyEntity entity = new ApiKeyEntity();
+        entity.setId(id);
+        entity.setKeyHash("hash-" + id);
+        entity.setName("Key " + id);
+        entity.setRateLimitTier(ApiKeyEntity.RateLimitTier.BASIC);
+        entity.setIsActive(true);
+        return entity;
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.infrastructure.cache;
+
+import com.project.infrastructure.persistence.listener.ProductChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ListCacheService.
+ * Tests versioned keys, version bumps and the Redis-down bypass with mocked dependencies.
+ */
+@ExtendWith(MockitoExtension.class)
+class ListCacheServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private RedisTemplate<String, Long> versionTemplate;
+
+    @Mock
+    private ValueOperations<String, Long> versionOperations;
+
+    private ListCacheService listCacheService;
+
+    @BeforeEach
+    void setUp() {
+        RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry(),
+                50, Duration.ofSeconds(1), 50, 10, Duration.ofMinutes(1));
+        listCacheService = new ListCacheService(cacheService, versionTemplate, circuitBreaker, TTL);
+        lenient().when(versionTemplate.opsForValue()).thenReturn(versionOperations);
+
+        // Cache miss: load-through runs the loader inline
+        lenient().when(cacheService.getOrLoad(anyString(), any(), any(Duration.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(3).get());
+    }
+
+    @Test
+    void shouldServeCachedListOfCurrentVersion() {
+        // Given
+        when(versionOperations.get("version:product")).thenReturn(7L);
+        when(cacheService.getOrLoad(eq("list:product:7:active"), eq(List.class), eq(TTL), any()))
+                .thenReturn(List.of("cached"));
+
+        // When
+        List<String> result = listCacheService.getList("product", "active", () -> List.of("loaded"));
+
+        // Then
+        assertThat(result).containsExactly("cached");
+    }
+
+    @Test
+    void shouldCacheUnderNewVersionAfterBump() {
+        // Given - Write committed: version 7 -> 8, nothing cached under 8 yet
+        when(versionOperations.get("version:product")).thenReturn(8L);
+
+        // When
+        listCacheService.onProductChanged(new ProductChangedEvent(1L, "SKU-1", ProductChangedEvent.ChangeType.UPDATED));
+        List<String> result = listCacheService.getList("product", "active", () -> List.of("loaded"));
+
+        // Then
+        assertThat(result).containsExactly("loaded");
+        verify(versionOperations).increment("version:product");
+        verify(cacheService).getOrLoad(eq("list:product:8:active"), eq(List.class), eq(TTL), any());
+    }
+
+    @Test
+    void shouldStartMissingVersionAtCurrentTime() {
+        // Given
+        long before = System.currentTimeMillis();
+        when(versionOperations.get("version:order")).thenReturn(null, before);
+
+        // When
+        listCacheService.getList("order", "recent", List::of);
+
+        // Then
+        verify(versionOperations).setIfAbsent(eq("version:order"), longThat(version -> version >= before));
+        verify(cacheService).getOrLoad(eq("list:order:" + before + ":recent"), eq(List.class), eq(TTL), any());
+    }
+
+    @Test
+    void shouldRebuildPageFromCachedContent() {
+        // Given
+        when(versionOperations.get("version:product")).thenReturn(3L);
+        PageRequest pageable = PageRequest.of(1, 2);
+        when(cacheService.getOrLoad(eq("list:product:3:category:books:p1:s2:UNSORTED"),
+                eq(ListCacheService.CachedPage.class), eq(TTL), any()))
+                .thenReturn(new ListCacheService.CachedPage(List.of("c", "d"), 5));
+
+        // When
+        Page<String> page = listCacheService.getPage("product", "category:books", pageable,
+                () -> new PageImpl<>(List.of("loaded"), pageable, 1));
+
+        // Then
+        assertThat(page.getContent()).containsExactly("c", "d");
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getNumber()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldQueryDatabaseWhenRedisIsDown() {
+        // Given
+        when(versionOperations.get("version:product")).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        List<String> result = listCacheService.getList("product", "active", () -> List.of("loaded"));
+
+        // Then
+        assertThat(result).containsExactly("loaded");
+        verifyNoInteractions(cacheService);
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.infrastructure.cache;
+
+import io.lettuce.core.RedisClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NearCache.
+ * Tests prefix coverage, invalidation handling and the read/invalidate race guard
+ * (no Redis: tracking is switched on directly).
+ */
+class NearCacheTest {
+
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new NearCache((RedisClient) null, new SimpleMeterRegistry(), true,
+                List.of("apikey:", "product:"), 100, Duration.ofMinutes(1));
+        nearCache.resume();
+    }
+
+    @Test
+    void shouldCoverOnlyConfiguredPrefixesWhileTracking() {
+        // Then
+        assertThat(nearCache.covers("product:42")).isTrue();
+        assertThat(nearCache.covers("apikey:hash")).isTrue();
+        assertThat(nearCache.covers("user:1")).isFalse();
+
+        // When - Tracking connection lost
+        nearCache.suspend();
+
+        // Then
+        assertThat(nearCache.covers("product:42")).isFalse();
+    }
+
+    @Test
+    void shouldDiscardValueReadBeforeInvalidation() {
+        // Given - Read started, then Redis pushed an invalidation
+        long stamp = nearCache.stamp();
+        nearCache.onInvalidate(List.of("product:1"));
+
+        // When - Stale value arrives
+        nearCache.put("product:1", "stale", NearCache.UNKNOWN_EXPIRY, stamp);
+
+        // Then
+        assertThat(nearCache.get("product:1")).isNull();
+    }
+
+    @Test
+    void shouldClearEverythingOnFlushInvalidation() {
+        // Given
+        nearCache.put("product:1", "a", NearCache.UNKNOWN_EXPIRY, nearCache.stamp());
+        nearCache.put("apikey:x", "b", NearCache.UNKNOWN_EXPIRY, nearCache.stamp());
+
+        // When - FLUSHDB / FLUSHALL (invalidation without keys)
+        nearCache.onInvalidate(null);
+
+        // Then
+        assertThat(nearCache.get("product:1")).isNull();
+        assertThat(nearCache.get("apikey:x")).isNull();
+    }
+
+    @Test
+    void shouldReportRemainingTtlOfKnownExpiry() {
+        // Given
+        long now = System.currentTimeMillis();
+        nearCache.put("product:1", "a", now + 30_000, nearCache.stamp());
+        nearCache.put("product:2", "b", NearCache.NO_EXPIRY, nearCache.stamp());
+
+        // When
+        NearCache.Entry expiring = nearCache.get("product:1");
+        NearCache.Entry persistent = nearCache.get("product:2");
+
+        // Then
+        assertThat(expiring.remainingTtl(now)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(persistent.hasKnownExpiry()).isTrue();
+        assertThat(persistent.remainingTtl(now)).isNull();
+    }
+}
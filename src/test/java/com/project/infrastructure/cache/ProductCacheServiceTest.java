@@ -0,0 +1,160 @@
+package com.project.infrastructure.cache;
+
+import com.project.domain.model.Product;
+import com.project.infrastructure.persistence.entity.ProductEntity;
+import com.project.infrastructure.persistence.listener.ProductChangedEvent;
+import com.project.infrastructure.persistence.mapper.ProductMapper;
+import com.project.infrastructure.persistence.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProductCacheService.
+ * Tests the local and Redis tiers in front of the repository with mocked dependencies.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductCacheServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private ProductCacheService productCacheService;
+
+    @BeforeEach
+    void setUp() {
+        productCacheService = new ProductCacheService(
+                cacheService, productRepository, new ProductMapper(), invalidationBus,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), TTL);
+
+        // Single-flight loading runs the loader inline
+        lenient().when(cacheService.loadOnce(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    void shouldLoadFromDatabaseAndCacheUnderIdAndSku() {
+        // Given
+        when(cacheService.get("product:id:1", Product.class)).thenReturn(Optional.empty());
+        when(productRepository.findById(1L)).thenReturn(Optional.of(createEntity(1L, "SKU-1")));
+
+        // When
+        Optional<Product> product = productCacheService.findById(1L);
+        Optional<Product> bySku = productCacheService.findBySku("SKU-1");
+
+        // Then - Both keys written to Redis; SKU lookup answered locally
+        assertThat(product).isPresent();
+        assertThat(bySku).containsSame(product.get());
+        verify(cacheService).multiSet(Map.of("product:id:1", product.get(), "product:sku:SKU-1", product.get()), TTL);
+        verify(productRepository, never()).findBySku(anyString());
+    }
+
+    @Test
+    void shouldServeRepeatLookupsFromLocalCache() {
+        // Given
+        Product product = createProduct(2L, "SKU-2");
+        when(cacheService.get("product:sku:SKU-2", Product.class)).thenReturn(Optional.of(product));
+
+        // When
+        productCacheService.findBySku("SKU-2");
+        Optional<Product> second = productCacheService.findBySku("SKU-2");
+
+        // Then - Redis consulted only once
+        assertThat(second).containsSame(product);
+        verify(cacheService, times(1)).get(anyString(), eq(Product.class));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void shouldInvalidateBothKeysOnProductChange() {
+        // Given
+        Product product = createProduct(3L, "SKU-3");
+        when(cacheService.get("product:id:3", Product.class)).thenReturn(Optional.of(product), Optional.empty());
+        when(productRepository.findById(3L)).thenReturn(Optional.of(createEntity(3L, "SKU-3")));
+        productCacheService.findById(3L);
+
+        // When
+        productCacheService.onProductChanged(
+                new ProductChangedEvent(3L, "SKU-3", ProductChangedEvent.ChangeType.UPDATED));
+        productCacheService.findById(3L);
+
+        // Then - Redis and local copies dropped, other nodes notified, next read reloads
+        verify(cacheService).multiDelete(List.of("product:id:3", "product:sku:SKU-3"));
+        verify(invalidationBus).publish("product", "product:id:3");
+        verify(invalidationBus).publish("product", "product:sku:SKU-3");
+        verify(productRepository).findById(3L);
+    }
+
+    @Test
+    void shouldEvictOnlyLocalCopyOnInventoryEvent() {
+        // Given
+        Product product = createProduct(4L, "SKU-4");
+        when(cacheService.get("product:id:4", Product.class)).thenReturn(Optional.of(product));
+        productCacheService.findById(4L);
+
+        // When
+        productCacheService.evictLocal(4L, "SKU-4");
+        productCacheService.findById(4L);
+
+        // Then
+        verify(cacheService, times(2)).get("product:id:4", Product.class);
+        verify(cacheService, never()).multiDelete(any());
+        verify(invalidationBus, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    void shouldNotCacheUnknownProduct() {
+        // Given
+        when(cacheService.get("product:id:99", Product.class)).thenReturn(Optional.empty());
+        when(productRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When
+        Optional<Product> product = productCacheService.findById(99L);
+
+        // Then
+        assertThat(product).isEmpty();
+        verify(cacheService, never()).multiSet(anyMap(), any(Duration.class));
+    }
+
+    private ProductEntity createEntity(Long id, String sku) {
+        ProductEntity entity = new ProductEntity();
+        entity.setId(id);
+        entity.setName("Product " + id);
+        entity.setSku(sku);
+        entity.setPrice(new BigDecimal("9.99"));
+        entity.setStockQuantity(5);
+        return entity;
+    }
+
+    private Product createProduct(Long id, String sku) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setSku(sku);
+        product.setPrice(new BigDecimal("9.99"));
+        product.setStockQuantity(5);
+        return product;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.infrastructure.cache;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RedisCircuitBreaker.
+ * Tests tripping on errors and fail-fast rejection while open.
+ */
+class RedisCircuitBreakerTest {
+
+    private RedisCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry(),
+                50, Duration.ofMillis(100), 50, 10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldOpenAfterRepeatedFailuresAndRejectCalls() {
+        // Given - 10 failed calls
+        for (int i = 0; i < 10; i++) {
+            try {
+                circuitBreaker.execute(() -> {
+                    throw new IllegalStateException("Redis down");
+                });
+            } catch (IllegalStateException ignored) {
+                // expected
+            }
+        }
+
+        // When
+        AtomicInteger calls = new AtomicInteger();
+
+        // Then - Open: call rejected without invoking Redis
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(calls::incrementAndGet))
+                .isInstanceOf(CallNotPermittedException.class)
+                .satisfies(e -> assertThat(RedisCircuitBreaker.isRejected(e)).isTrue());
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void shouldStayClosedOnSuccess() {
+        // When
+        for (int i = 0; i < 20; i++) {
+            circuitBreaker.execute(() -> "OK");
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.infrastructure.cache;
+
+import com.project.domain.model.User;
+import com.project.infrastructure.persistence.entity.UserEntity;
+import com.project.infrastructure.persistence.listener.UserChangedEvent;
+import com.project.infrastructure.persistence.mapper.UserMapper;
+import com.project.infrastructure.persistence.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserCacheService.
+ * Tests dual-key caching, invalidation and batch lookups with mocked dependencies.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserCacheServiceTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    void setUp() {
+        userCacheService = new UserCacheService(cacheService, userRepository, new UserMapper(), TTL);
+
+        // Single-flight loading runs the loader inline
+        lenient().when(cacheService.loadOnce(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    void shouldCacheUnderIdAndEmailOnMiss() {
+        // Given
+        when(cacheService.get("user:1", User.class)).thenReturn(Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createEntity(1L, "a@example.com")));
+
+        // When
+        Optional<User> user = userCacheService.findById(1L);
+
+        // Then
+        assertThat(user).isPresent();
+        verify(cacheService).multiSet(Map.of("user:1", user.get(), "user:email:a@example.com", user.get()), TTL);
+    }
+
+    @Test
+    void shouldIgnoreCachedEmailEntryOfRenamedUser() {
+        // Given - Stale entry: user now has another email
+        when(cacheService.get("user:email:old@example.com", User.class))
+                .thenReturn(Optional.of(createUser(2L, "new@example.com")));
+
+        // When
+        Optional<User> user = userCacheService.findCachedByEmail("old@example.com");
+
+        // Then
+        assertThat(user).isEmpty();
+    }
+
+    @Test
+    void shouldDropOldAndNewEmailKeysOnEmailChange() {
+        // When
+        userCacheService.onUserChanged(new UserChangedEvent(
+                3L, "new@example.com", "old@example.com", UserChangedEvent.ChangeType.UPDATED));
+
+        // Then
+        verify(cacheService).multiDelete(List.of("user:3", "user:email:new@example.com", "user:email:old@example.com"));
+    }
+
+    @Test
+    void shouldResolveBatchWithOneMultiGetAndOneQuery() {
+        // Given - 1 cached, 2 loaded, 4 unknown
+        User cached = createUser(1L, "a@example.com");
+        when(cacheService.multiGet(List.of("user:1", "user:2", "user:3", "user:4"), User.class))
+                .thenReturn(Map.of("user:1", cached));
+        when(userRepository.findAllById(List.of(2L, 3L, 4L)))
+                .thenReturn(List.of(createEntity(3L, "c@example.com"), createEntity(2L, "b@example.com")));
+
+        // When
+        Map<Long, User> users = userCacheService.findAllById(List.of(1L, 2L, 3L, 4L, 1L));
+
+        // Then - Request order kept, unknown ID left out, loaded users cached
+        assertThat(users.keySet()).containsExactly(1L, 2L, 3L);
+        assertThat(users.get(1L)).isSameAs(cached);
+        verify(cacheService).multiSet(argThat(entries -> entries.size() == 4), eq(TTL));
+    }
+
+    private UserEntity createEntity(Long id, String email) {
+        UserEntity entity = new UserEntity();
+        entity.setId(id);
+        entity.setEmail(email);
+        entity.setUsername("user" + id);
+        return entity;
+    }
+
+    private User createUser(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setUsername("user" + id);
+        return user;
+    }
+}
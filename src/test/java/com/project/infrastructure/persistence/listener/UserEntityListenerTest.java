@@ -0,0 +1,69 @@
+package com.project.infrastructure.persistence.listener;
+
+import com.project.infrastructure.persistence.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserEntityListener.
+ * Tests that email changes report the previous email.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserEntityListenerTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void shouldReportPreviousEmailOnEmailChange() {
+        // Given
+        UserEntityListener listener = new UserEntityListener(eventPublisher);
+        UserEntity entity = createEntity("old@example.com");
+        listener.onLoad(entity);
+
+        // When
+        entity.setEmail("new@example.com");
+        listener.onUpdate(entity);
+
+        // Then
+        UserChangedEvent event = captureEvent();
+        assertThat(event.getEmail()).isEqualTo("new@example.com");
+        assertThat(event.getPreviousEmail()).isEqualTo("old@example.com");
+    }
+
+    @Test
+    void shouldNotReportPreviousEmailWhenUnchanged() {
+        // Given
+        UserEntityListener listener = new UserEntityListener(eventPublisher);
+        UserEntity entity = createEntity("same@example.com");
+        listener.onLoad(entity);
+
+        // When
+        entity.setUsername("renamed");
+        listener.onUpdate(entity);
+
+        // Then
+        assertThat(captureEvent().getPreviousEmail()).isNull();
+    }
+
+    private UserChangedEvent captureEvent() {
+        ArgumentCaptor<UserChangedEvent> captor = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+
+    private UserEntity createEntity(String email) {
+        UserEntity entity = new UserEntity();
+        entity.setId(1L);
+        entity.setEmail(email);
+        entity.setUsername("user");
+        return entity;
+    }
+}
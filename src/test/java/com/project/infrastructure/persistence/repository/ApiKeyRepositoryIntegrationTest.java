@@ -145,7 +145,7 @@ class ApiKeyRepositoryIntegrationTest extends BaseRepositoryTest {
     }
 
     @Test
-    void shouldUpdateLastUsedAt() {
+    void shouldBatchUpdateLastUsedAt() {
         // Given
         ApiKeyEntity apiKey = new ApiKeyEntity();
         apiKey.setKeyHash("updatehash");
@@ -158,14 +158,15 @@ class ApiKeyRepositoryIntegrationTest extends BaseRepositoryTest {
         LocalDateTime timestamp = LocalDateTime.now();
 
         // When
-        apiKeyRepository.updateLastUsedAt("updatehash", timestamp);
+        int updated = apiKeyRepository.updateLastUsedAtBatch(List.of("updatehash"), timestamp);
         apiKeyRepository.flush(); // Force database sync
 
-        Optional<ApiKeyEntity> updated = apiKeyRepository.findByKeyHash("updatehash");
+        Optional<ApiKeyEntity> found = apiKeyRepository.findByKeyHash("updatehash");
 
         // Then
-        assertThat(updated).isPresent();
-        assertThat(updated.get().getLastUsedAt()).isNotNull();
+        assertThat(updated).isEqualTo(1);
+        assertThat(found).isPresent();
+        assertThat(found.get().getLastUsedAt()).isNotNull();
     }
 
     @Test
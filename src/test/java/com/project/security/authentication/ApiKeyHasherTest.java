@@ -0,0 +1,56 @@
+package com.project.security.authentication;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.codec.Hex;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ApiKeyHasher.
+ * Verifies output matches a plain MessageDigest + hex encoding.
+ */
+class ApiKeyHasherTest {
+
+    @Test
+    void shouldMatchReferenceSha256Hex() throws Exception {
+        // Given
+        String apiKey = "sk_test_abc123";
+
+        // When
+        String hash = ApiKeyHasher.sha256Hex(apiKey);
+
+        // Then
+        assertThat(hash).isEqualTo(reference(apiKey)).hasSize(64);
+    }
+
+    @Test
+    void shouldHashNonAsciiAndLongKeys() throws Exception {
+        // Given
+        String unicode = "clé-ключ-鍵";
+        String longKey = "k".repeat(1000);
+
+        // When / Then
+        assertThat(ApiKeyHasher.sha256Hex(unicode)).isEqualTo(reference(unicode));
+        assertThat(ApiKeyHasher.sha256Hex(longKey)).isEqualTo(reference(longKey));
+    }
+
+    @Test
+    void shouldBeStableAcrossRepeatedCalls() throws Exception {
+        // When - Reused per-thread digest must be reset between calls
+        String first = ApiKeyHasher.sha256Hex("first-key");
+        String second = ApiKeyHasher.sha256Hex("second-key");
+        String again = ApiKeyHasher.sha256Hex("first-key");
+
+        // Then
+        assertThat(first).isEqualTo(again).isEqualTo(reference("first-key"));
+        assertThat(second).isEqualTo(reference("second-key"));
+    }
+
+    private String reference(String apiKey) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return new String(Hex.encode(digest.digest(apiKey.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.security.concurrency;
+
+import com.project.domain.model.ApiKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ * Tests priority shedding and latency-driven limit changes.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), 10, 2, 100, 1.5, 0.6, 0.8,
+                Duration.ZERO, 1);
+    }
+
+    @Test
+    void shouldShedLowerTiersFirst() {
+        // Given - 6 BASIC requests in flight (60% of limit 10)
+        for (int i = 0; i < 6; i++) {
+            assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.BASIC)).isTrue();
+        }
+
+        // When / Then
+        assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.BASIC)).isFalse();
+        assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.STANDARD)).isTrue();
+        assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.STANDARD)).isTrue();
+        assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.STANDARD)).isFalse();
+        assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.PREMIUM)).isTrue();
+        assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.PREMIUM)).isTrue();
+        assertThat(limiter.tryAcquire(ApiKey.RateLimitTier.UNLIMITED)).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldGrowWithStableLatencyAndShrinkWhenLatencyRises() {
+        // Given - Fully used limit at stable 10ms latency
+        for (int i = 0; i < 200; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(10), limiter.getLimit());
+        }
+        int grown = limiter.getLimit();
+
+        // When - Backend slows down 10x
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(TimeUnit.MILLISECONDS.toNanos(100), limiter.getLimit());
+        }
+
+        // Then
+        assertThat(grown).isGreaterThan(10);
+        assertThat(limiter.getLimit()).isLessThan(grown);
+    }
+
+    @Test
+    void shouldKeepLimitUntilSampleWindowCompletes() {
+        // Given - Window that cannot close during the test
+        AdaptiveConcurrencyLimiter windowed = new AdaptiveConcurrencyLimiter(
+                new SimpleMeterRegistry(), 10, 2, 100, 1.5, 0.6, 0.8, Duration.ofHours(1), 1);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            windowed.onSample(TimeUnit.MILLISECONDS.toNanos(10), windowed.getLimit());
+        }
+
+        // Then
+        assertThat(windowed.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldReleaseSlot() {
+        // Given
+        limiter.tryAcquire(ApiKey.RateLimitTier.PREMIUM);
+
+        // When
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Then
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.security.ratelimit;
+
+import com.project.domain.model.ApiKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InFlightLimiter.
+ * Tests local caps by tier and the optional distributed semaphore.
+ */
+@ExtendWith(MockitoExtension.class)
+class InFlightLimiterTest {
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    @Test
+    void shouldCapSimultaneousRequestsPerKey() {
+        // Given
+        InFlightLimiter limiter = createLimiter(false);
+        ApiKey apiKey = createApiKey("hash-a", ApiKey.RateLimitTier.BASIC);
+        ApiKey other = createApiKey("hash-b", ApiKey.RateLimitTier.BASIC);
+
+        // When
+        InFlightLimiter.Permit first = limiter.tryAcquire(apiKey);
+        InFlightLimiter.Permit second = limiter.tryAcquire(apiKey);
+        InFlightLimiter.Permit third = limiter.tryAcquire(apiKey);
+
+        // Then - BASIC cap is 2, other keys unaffected
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(third).isNull();
+        assertThat(limiter.tryAcquire(other)).isNotNull();
+        verifyNoInteractions(redisRateLimiter);
+    }
+
+    @Test
+    void shouldFreeSlotOnRelease() {
+        // Given
+        InFlightLimiter limiter = createLimiter(false);
+        ApiKey apiKey = createApiKey("hash-a", ApiKey.RateLimitTier.BASIC);
+        InFlightLimiter.Permit first = limiter.tryAcquire(apiKey);
+        InFlightLimiter.Permit second = limiter.tryAcquire(apiKey);
+
+        // When
+        limiter.release(first);
+        limiter.release(second);
+
+        // Then
+        assertThat(limiter.getInFlight("hash-a")).isZero();
+        assertThat(limiter.tryAcquire(apiKey)).isNotNull();
+    }
+
+    @Test
+    void shouldReleaseLocalSlotWhenClusterCapReached() {
+        // Given
+        InFlightLimiter limiter = createLimiter(true);
+        ApiKey apiKey = createApiKey("hash-a", ApiKey.RateLimitTier.PREMIUM);
+        when(redisRateLimiter.acquireSemaphore(eq("hash-a"), eq(10), any(Duration.class), anyString()))
+                .thenReturn(false);
+
+        // When
+        InFlightLimiter.Permit permit = limiter.tryAcquire(apiKey);
+
+        // Then
+        assertThat(permit).isNull();
+        assertThat(limiter.getInFlight("hash-a")).isZero();
+    }
+
+    @Test
+    void shouldReleaseDistributedPermit() {
+        // Given
+        InFlightLimiter limiter = createLimiter(true);
+        ApiKey apiKey = createApiKey("hash-a", ApiKey.RateLimitTier.PREMIUM);
+        when(redisRateLimiter.acquireSemaphore(eq("hash-a"), eq(10), any(Duration.class), anyString()))
+                .thenReturn(true);
+
+        // When
+        limiter.release(limiter.tryAcquire(apiKey));
+
+        // Then
+        verify(redisRateLimiter).releaseSemaphore(eq("hash-a"), anyString());
+    }
+
+    private InFlightLimiter createLimiter(boolean distributed) {
+        return new InFlightLimiter(redisRateLimiter, 2, 5, 10, 10, distributed, Duration.ofSeconds(30));
+    }
+
+    private ApiKey createApiKey(String keyHash, ApiKey.RateLimitTier tier) {
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKeyHash(keyHash);
+        apiKey.setName("Test Key");
+        apiKey.setRateLimitTier(tier);
+        apiKey.setIsActive(true);
+        return apiKey;
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.security.ratelimit;
+
+import com.project.domain.model.ApiKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LocalTokenBucketLimiter.
+ * Tests local enforcement and reconciliation with mocked Redis scripts.
+ */
+@ExtendWith(MockitoExtension.class)
+class LocalTokenBucketLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    private LocalTokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LocalTokenBucketLimiter(redisRateLimiter, new ApiKey.RateLimitTier[]{ApiKey.RateLimitTier.PREMIUM}, 2);
+    }
+
+    @Test
+    void shouldAllowBurstUpToLimitThenDeny() {
+        // When
+        RateLimitService.RateLimitResult first = limiter.tryAcquire("hash", 10, WINDOW, 1);
+        for (int i = 0; i < 9; i++) {
+            limiter.tryAcquire("hash", 10, WINDOW, 1);
+        }
+        RateLimitService.RateLimitResult eleventh = limiter.tryAcquire("hash", 10, WINDOW, 1);
+
+        // Then
+        assertThat(first.isAllowed()).isTrue();
+        assertThat(first.getRemaining()).isEqualTo(9);
+        assertThat(eleventh.isAllowed()).isFalse();
+        assertThat(eleventh.getResetSeconds()).isPositive();
+        assertThat(limiter.isEnabledFor(ApiKey.RateLimitTier.PREMIUM)).isTrue();
+        assertThat(limiter.isEnabledFor(ApiKey.RateLimitTier.BASIC)).isFalse();
+    }
+
+    @Test
+    void shouldChargeCostInTokens() {
+        // When
+        RateLimitService.RateLimitResult first = limiter.tryAcquire("hash", 10, WINDOW, 4);
+        RateLimitService.RateLimitResult second = limiter.tryAcquire("hash", 10, WINDOW, 4);
+        RateLimitService.RateLimitResult third = limiter.tryAcquire("hash", 10, WINDOW, 4);
+
+        // Then
+        assertThat(first.getRemaining()).isEqualTo(6);
+        assertThat(second.getRemaining()).isEqualTo(2);
+        assertThat(third.isAllowed()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportConsumptionAndApplyClusterDebt() {
+        // Given - 3 local requests; other nodes have drained the shared bucket
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("hash", 10, WINDOW, 1);
+        }
+        when(redisRateLimiter.syncTokenBuckets(anyList())).thenReturn(new long[]{WINDOW.toMillis()});
+
+        // When
+        limiter.reconcile();
+        RateLimitService.RateLimitResult next = limiter.tryAcquire("hash", 10, WINDOW, 1);
+
+        // Then
+        ArgumentCaptor<List<RedisRateLimiter.BucketUsage>> usages = ArgumentCaptor.forClass(List.class);
+        verify(redisRateLimiter).syncTokenBuckets(usages.capture());
+        assertThat(usages.getValue()).singleElement()
+                .satisfies(usage -> assertThat(usage.getConsumed()).isEqualTo(3));
+        assertThat(next.isAllowed()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRetryConsumptionWhenSyncFails() {
+        // Given
+        limiter.tryAcquire("hash", 10, WINDOW, 1);
+        limiter.tryAcquire("hash", 10, WINDOW, 1);
+        when(redisRateLimiter.syncTokenBuckets(anyList())).thenReturn(null, new long[]{0});
+
+        // When
+        limiter.reconcile();
+        limiter.reconcile();
+
+        // Then - Second attempt still carries both requests
+        ArgumentCaptor<List<RedisRateLimiter.BucketUsage>> usages = ArgumentCaptor.forClass(List.class);
+        verify(redisRateLimiter, times(2)).syncTokenBuckets(usages.capture());
+        assertThat(usages.getAllValues().get(1).get(0).getConsumed()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipBucketsUnusedSinceLastSync() {
+        // Given
+        limiter.tryAcquire("hash", 10, WINDOW, 1);
+        when(redisRateLimiter.syncTokenBuckets(anyList())).thenReturn(new long[]{0});
+        limiter.reconcile();
+
+        // When - No requests since the last sync
+        limiter.reconcile();
+
+        // Then - Bucket kept locally but not sent again
+        verify(redisRateLimiter, times(1)).syncTokenBuckets(anyList());
+        assertThat(limiter.getBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSyncInBatches() {
+        // Given - 5 used buckets, batch size 2
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("hash-" + i, 10, WINDOW, 1);
+        }
+        when(redisRateLimiter.syncTokenBuckets(anyList()))
+                .thenAnswer(inv -> new long[inv.<List<?>>getArgument(0).size()]);
+
+        // When
+        limiter.reconcile();
+
+        // Then
+        ArgumentCaptor<List<RedisRateLimiter.BucketUsage>> usages = ArgumentCaptor.forClass(List.class);
+        verify(redisRateLimiter, times(3)).syncTokenBuckets(usages.capture());
+        assertThat(usages.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+    }
+}
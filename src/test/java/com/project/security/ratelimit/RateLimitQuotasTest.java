@@ -0,0 +1,97 @@
+package com.project.security.ratelimit;
+
+import com.project.domain.model.ApiKey;
+import com.project.infrastructure.persistence.entity.ApiKeyEntity;
+import com.project.infrastructure.persistence.entity.RateLimitQuotaEntity;
+import com.project.infrastructure.persistence.repository.RateLimitQuotaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RateLimitQuotas.
+ * Tests quota lookup, hot reload and reload failure handling.
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitQuotasTest {
+
+    @Mock
+    private RateLimitQuotaRepository quotaRepository;
+
+    private RateLimitQuotas quotas;
+
+    @BeforeEach
+    void setUp() {
+        quotas = new RateLimitQuotas(quotaRepository,
+                new RouteCostResolver(new RateLimitRouteProperties()));
+    }
+
+    @Test
+    void shouldUseTierDefaultsBeforeFirstLoad() {
+        // Then
+        assertThat(quotas.getLimit(createApiKey("k", ApiKey.RateLimitTier.BASIC))).isEqualTo(60);
+        assertThat(quotas.getLimit(createApiKey("k", ApiKey.RateLimitTier.PREMIUM))).isEqualTo(1000);
+        assertThat(quotas.getLimit(createApiKey("k", ApiKey.RateLimitTier.UNLIMITED)))
+                .isEqualTo(RateLimitQuotas.UNLIMITED);
+    }
+
+    @Test
+    void shouldApplyReloadedTierAndKeyQuotas() {
+        // Given
+        when(quotaRepository.findAll()).thenReturn(List.of(
+                tierQuota(ApiKeyEntity.RateLimitTier.BASIC, 120),
+                keyQuota("vip-hash", 5000)));
+
+        // When
+        quotas.reload();
+
+        // Then - Key override wins over tier; tiers without a row are unlimited
+        assertThat(quotas.getLimit(createApiKey("other", ApiKey.RateLimitTier.BASIC))).isEqualTo(120);
+        assertThat(quotas.getLimit(createApiKey("vip-hash", ApiKey.RateLimitTier.BASIC))).isEqualTo(5000);
+        assertThat(quotas.getLimit(createApiKey("other", ApiKey.RateLimitTier.STANDARD)))
+                .isEqualTo(RateLimitQuotas.UNLIMITED);
+    }
+
+    @Test
+    void shouldKeepPreviousQuotasWhenReloadFails() {
+        // Given
+        when(quotaRepository.findAll())
+                .thenReturn(List.of(tierQuota(ApiKeyEntity.RateLimitTier.BASIC, 120)))
+                .thenThrow(new RuntimeException("Database unavailable"));
+        quotas.reload();
+
+        // When
+        quotas.reload();
+
+        // Then
+        assertThat(quotas.getLimit(createApiKey("k", ApiKey.RateLimitTier.BASIC))).isEqualTo(120);
+    }
+
+    private RateLimitQuotaEntity tierQuota(ApiKeyEntity.RateLimitTier tier, int limit) {
+        RateLimitQuotaEntity quota = new RateLimitQuotaEntity();
+        quota.setTier(tier);
+        quota.setRequestsPerMinute(limit);
+        return quota;
+    }
+
+    private RateLimitQuotaEntity keyQuota(String keyHash, int limit) {
+        RateLimitQuotaEntity quota = new RateLimitQuotaEntity();
+        quota.setKeyHash(keyHash);
+        quota.setRequestsPerMinute(limit);
+        return quota;
+    }
+
+    private ApiKey createApiKey(String keyHash, ApiKey.RateLimitTier tier) {
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKeyHash(keyHash);
+        apiKey.setRateLimitTier(tier);
+        return apiKey;
+    }
+}
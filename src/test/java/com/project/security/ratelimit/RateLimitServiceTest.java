@@ -1,7 +1,7 @@
 package com.project.security.ratelimit;
 
 import com.project.domain.model.ApiKey;
-import com.project.infrastructure.cache.CacheService;
+import com.project.infrastructure.persistence.repository.RateLimitQuotaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,46 +12,62 @@ import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for RateLimitService.
- * Tests rate limiting logic with mocked cache.
+ * Tests rate limiting logic with mocked Redis scripts.
  */
 @ExtendWith(MockitoExtension.class)
 class RateLimitServiceTest {
 
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    @Mock
+    private LocalTokenBucketLimiter localLimiter;
+
     @Mock
-    private CacheService cacheService;
+    private RateLimitQuotaRepository quotaRepository;
 
     private RateLimitService rateLimitService;
 
     @BeforeEach
     void setUp() {
-        rateLimitService = new RateLimitService(cacheService);
+        // Quotas not loaded yet: built-in tier defaults
+        RateLimitQuotas quotas = new RateLimitQuotas(quotaRepository,
+                new RouteCostResolver(new RateLimitRouteProperties()));
+        rateLimitService = new RateLimitService(redisRateLimiter, localLimiter, quotas,
+                RateLimitAlgorithm.SLIDING_WINDOW, RateLimitAlgorithm.FIXED_WINDOW, RateLimitAlgorithm.GCRA);
     }
 
     @Test
     void shouldAllowRequestUnderLimit() {
         // Given
         ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.BASIC);
-        when(cacheService.incrementWithExpiry(anyString(), any(Duration.class)))
-                .thenReturn(30L); // 30th request out of 60
+        when(redisRateLimiter.check(any(), anyString(), anyInt(), any(Duration.class), anyInt()))
+                .thenReturn(new RateLimitService.RateLimitResult(true, 30, 45));
 
         // When
         RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
 
         // Then
         assertThat(result.isAllowed()).isTrue();
-        assertThat(result.getRemaining()).isEqualTo(30); // 60 - 30 = 30 remaining
+        assertThat(result.getRemaining()).isEqualTo(30);
+        assertThat(result.getResetSeconds()).isEqualTo(45);
     }
 
     @Test
     void shouldDenyRequestOverLimit() {
         // Given
         ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.BASIC);
-        when(cacheService.incrementWithExpiry(anyString(), any(Duration.class)))
-                .thenReturn(61L); // 61st request out of 60
+        when(redisRateLimiter.check(any(), anyString(), anyInt(), any(Duration.class), anyInt()))
+                .thenReturn(new RateLimitService.RateLimitResult(false, 0, 12));
 
         // When
         RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
@@ -72,52 +88,104 @@ class RateLimitServiceTest {
         // Then
         assertThat(result.isAllowed()).isTrue();
         assertThat(result.getRemaining()).isEqualTo(Integer.MAX_VALUE);
+        verifyNoInteractions(redisRateLimiter, localLimiter);
     }
 
     @Test
     void shouldHandleBasicTierLimit() {
         ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.BASIC);
-        when(cacheService.incrementWithExpiry(anyString(), any(Duration.class))).thenReturn(1L);
+        when(redisRateLimiter.check(RateLimitAlgorithm.SLIDING_WINDOW, "test-hash", 60, WINDOW, 1))
+                .thenReturn(new RateLimitService.RateLimitResult(true, 59, 60));
 
         RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
 
         assertThat(result.isAllowed()).isTrue();
-        assertThat(result.getRemaining()).isEqualTo(59); // 60 - 1
+        assertThat(result.getRemaining()).isEqualTo(59);
     }
 
     @Test
     void shouldHandleStandardTierLimit() {
         ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.STANDARD);
-        when(cacheService.incrementWithExpiry(anyString(), any(Duration.class))).thenReturn(1L);
+        when(redisRateLimiter.check(RateLimitAlgorithm.FIXED_WINDOW, "test-hash", 300, WINDOW, 1))
+                .thenReturn(new RateLimitService.RateLimitResult(true, 299, 60));
 
         RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
 
         assertThat(result.isAllowed()).isTrue();
-        assertThat(result.getRemaining()).isEqualTo(299); // 300 - 1
+        assertThat(result.getRemaining()).isEqualTo(299);
     }
 
     @Test
     void shouldHandlePremiumTierLimit() {
         ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.PREMIUM);
-        when(cacheService.incrementWithExpiry(anyString(), any(Duration.class))).thenReturn(1L);
+        when(redisRateLimiter.check(RateLimitAlgorithm.GCRA, "test-hash", 1000, WINDOW, 1))
+                .thenReturn(new RateLimitService.RateLimitResult(true, 999, 1));
 
         RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
 
         assertThat(result.isAllowed()).isTrue();
-        assertThat(result.getRemaining()).isEqualTo(999); // 1000 - 1
+        assertThat(result.getRemaining()).isEqualTo(999);
     }
 
     @Test
-    void shouldFailOpenOnRedisError() {
+    void shouldFallBackToLocalBucketOnRedisError() {
         // Given
         ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.BASIC);
-        when(cacheService.incrementWithExpiry(anyString(), any(Duration.class)))
-                .thenReturn(null); // Redis failure
+        when(redisRateLimiter.check(any(), anyString(), anyInt(), any(Duration.class), anyInt()))
+                .thenReturn(null); // Redis failure or circuit open
+        when(localLimiter.tryAcquire("test-hash", 60, WINDOW, 1))
+                .thenReturn(new RateLimitService.RateLimitResult(false, 0, 3));
+
+        // When
+        RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
+
+        // Then - Limit still enforced on this node
+        assertThat(result.isAllowed()).isFalse();
+    }
+
+    @Test
+    void shouldUseLocalBucketForConfiguredTier() {
+        // Given
+        ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.PREMIUM);
+        when(localLimiter.isEnabledFor(ApiKey.RateLimitTier.PREMIUM)).thenReturn(true);
+        when(localLimiter.tryAcquire("test-hash", 1000, WINDOW, 1))
+                .thenReturn(new RateLimitService.RateLimitResult(true, 999, 1));
 
         // When
         RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(apiKey);
 
-        // Then - Should allow request (fail open)
+        // Then - No per-request Redis call
+        assertThat(result.getRemaining()).isEqualTo(999);
+        verify(redisRateLimiter, never()).check(any(), anyString(), anyInt(), any(Duration.class), anyInt());
+    }
+
+    @Test
+    void shouldChargeRouteCostToGroupBucket() {
+        // Given
+        ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.BASIC);
+        when(redisRateLimiter.check(RateLimitAlgorithm.SLIDING_WINDOW, "test-hash:search", 60, WINDOW, 10))
+                .thenReturn(new RateLimitService.RateLimitResult(true, 50, 60));
+
+        // When
+        RateLimitService.RateLimitResult result =
+                rateLimitService.checkRateLimit(apiKey, new RouteCostResolver.RouteCost(10, "search"));
+
+        // Then
+        assertThat(result.getRemaining()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldChargeWholeQuotaForRouteCostingMoreThanQuota() {
+        // Given - BASIC quota 60, route cost 100
+        ApiKey apiKey = createApiKey(ApiKey.RateLimitTier.BASIC);
+        when(redisRateLimiter.check(RateLimitAlgorithm.SLIDING_WINDOW, "test-hash:export", 60, WINDOW, 60))
+                .thenReturn(new RateLimitService.RateLimitResult(true, 0, 60));
+
+        // When
+        RateLimitService.RateLimitResult result =
+                rateLimitService.checkRateLimit(apiKey, new RouteCostResolver.RouteCost(100, "export"));
+
+        // Then
         assertThat(result.isAllowed()).isTrue();
     }
 
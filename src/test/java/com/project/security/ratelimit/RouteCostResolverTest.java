@@ -0,0 +1,69 @@
+package com.project.security.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RouteCostResolver.
+ * Tests route matching and default cost.
+ */
+class RouteCostResolverTest {
+
+    private RouteCostResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitRouteProperties properties = new RateLimitRouteProperties();
+        properties.setRoutes(List.of(
+                route("/api/products/search", null, 10, "search"),
+                route("/api/orders/**", "GET", 5, null)));
+        resolver = new RouteCostResolver(properties);
+    }
+
+    @Test
+    void shouldResolveConfiguredRouteCostAndGroup() {
+        // When
+        RouteCostResolver.RouteCost cost = resolver.resolve(new MockHttpServletRequest("GET", "/api/products/search"));
+
+        // Then
+        assertThat(cost.getCost()).isEqualTo(10);
+        assertThat(cost.getGroup()).isEqualTo("search");
+        assertThat(resolver.getMaxCost()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldMatchMethodAndWildcardPattern() {
+        // When
+        RouteCostResolver.RouteCost get = resolver.resolve(new MockHttpServletRequest("GET", "/api/orders/recent"));
+        RouteCostResolver.RouteCost patch = resolver.resolve(new MockHttpServletRequest("PATCH", "/api/orders/1/status"));
+
+        // Then
+        assertThat(get.getCost()).isEqualTo(5);
+        assertThat(get.getGroup()).isNull();
+        assertThat(patch).isSameAs(RouteCostResolver.RouteCost.DEFAULT);
+    }
+
+    @Test
+    void shouldDefaultToOneUnitForUnmatchedRoute() {
+        // When
+        RouteCostResolver.RouteCost cost = resolver.resolve(new MockHttpServletRequest("GET", "/api/test/echo"));
+
+        // Then
+        assertThat(cost.getCost()).isEqualTo(1);
+        assertThat(cost.getGroup()).isNull();
+    }
+
+    private RateLimitRouteProperties.Route route(String pattern, String method, int cost, String group) {
+        RateLimitRouteProperties.Route route = new RateLimitRouteProperties.Route();
+        route.setPattern(pattern);
+        route.setMethod(method);
+        route.setCost(cost);
+        route.setGroup(group);
+        return route;
+    }
+}